@@ -17,9 +17,17 @@
 package examples;
 
 import io.reactiverse.contextual.logging.ContextualData;
+import io.reactiverse.contextual.logging.ContextualEventBus;
+import io.reactiverse.contextual.logging.ContextualEventBusOptions;
+import io.reactiverse.contextual.logging.ContextualKey;
 import io.vertx.core.Vertx;
 import io.vertx.core.http.*;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
 @SuppressWarnings("unused")
 public class ContextualDataExamples {
 
@@ -53,6 +61,14 @@ public class ContextualDataExamples {
     return null;
   }
 
+  public void contextualEventBus(Vertx vertx) {
+    // tag::contextualEventBus[]
+    ContextualEventBus.install(vertx, new ContextualEventBusOptions()
+      .addKey("requestId")
+      .addKey("tenant"));
+    // end::contextualEventBus[]
+  }
+
   public void eventBusInterceptors(Vertx vertx) {
     // tag::eventBusInterceptors[]
     vertx.eventBus().addOutboundInterceptor(event -> {
@@ -72,4 +88,109 @@ public class ContextualDataExamples {
     });
     // end::eventBusInterceptors[]
   }
+
+  public void putAll(Vertx vertx, Map<String, String> tenantInfo) {
+    // tag::putAll[]
+    vertx.createHttpServer().requestHandler(req -> {
+      Map<String, String> values = new HashMap<>(tenantInfo);
+      values.put("requestId", generateId(req));
+      ContextualData.putAll(values);
+
+      // ... handle request
+    }).listen(8080);
+    // end::putAll[]
+  }
+
+  public void with(Map<String, String> values, Log log) {
+    // tag::with[]
+    String result = ContextualData.with(values, () -> {
+
+      // ... values are present in the contextual data map here
+      log.info("Computing result");
+      return "result";
+
+    });
+    // ... previous values are restored here
+    // end::with[]
+  }
+
+  public void putLazy(Vertx vertx) {
+    // tag::putLazy[]
+    vertx.createHttpServer().requestHandler(req -> {
+      ContextualData.putLazy("client", () -> describeClient(req));
+
+      // ... handle request
+    }).listen(8080);
+    // end::putLazy[]
+  }
+
+  public void primitives(Vertx vertx) {
+    // tag::primitives[]
+    vertx.createHttpServer().requestHandler(req -> {
+      ContextualData.putInt("attempt", attemptOf(req));
+      ContextualData.putBoolean("authenticated", req.headers().contains("Authorization"));
+
+      // ... handle request
+    }).listen(8080);
+    // end::primitives[]
+  }
+
+  public void ensureRequestId(Vertx vertx) {
+    // tag::ensureRequestId[]
+    vertx.createHttpServer().requestHandler(req -> {
+      String requestId = req.getHeader("x-request-id");
+      if (requestId != null) {
+        ContextualData.put("requestId", requestId);
+      } else {
+        requestId = ContextualData.ensureRequestId("requestId");
+      }
+
+      // ... handle request
+    }).listen(8080);
+    // end::ensureRequestId[]
+  }
+
+  public void wrap(Vertx vertx, ExecutorService executor) {
+    // tag::wrap[]
+    ExecutorService contextualExecutor = ContextualData.wrap(executor);
+
+    vertx.createHttpServer().requestHandler(req -> {
+      ContextualData.put("requestId", req.getHeader("x-request-id"));
+
+      CompletableFuture
+        .supplyAsync(() -> computeReport(req), contextualExecutor)
+        .thenAccept(report -> req.response().end(report));
+    }).listen(8080);
+    // end::wrap[]
+  }
+
+  private String computeReport(HttpServerRequest req) {
+    return null;
+  }
+
+  private int attemptOf(HttpServerRequest req) {
+    return 0;
+  }
+
+  private String describeClient(HttpServerRequest req) {
+    return null;
+  }
+
+  // tag::contextualKey[]
+  static final ContextualKey<String> REQUEST_ID = ContextualKey.register("requestId");
+  static final ContextualKey<Long> SHARD_ID = ContextualKey.register("shardId", Long.class);
+
+  public void contextualKey(Vertx vertx) {
+    vertx.createHttpServer().requestHandler(req -> {
+      REQUEST_ID.set(generateId(req));
+      SHARD_ID.set(shardOf(req));
+
+      // ... handle request
+    }).listen(8080);
+  }
+  // end::contextualKey[]
+
+  private Long shardOf(HttpServerRequest req) {
+    return null;
+  }
 }
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.reactiverse.contextual.logging;
+
+import java.util.concurrent.Callable;
+
+/**
+ * The contextual data of a Vert.x context, captured with {@link ContextualData#capture()}.
+ * <p>
+ * A capture is immutable: it is not affected by the writes that happen after it was taken.
+ * It can be restored on any thread, e.g. a thread of an application {@link java.util.concurrent.ExecutorService}
+ * or a callback thread of a third-party library, where it is visible to {@link ContextualData} read methods and to logging converters.
+ */
+public interface CapturedContextualData {
+
+  /**
+   * Wrap a task so that it runs with this contextual data.
+   * <p>
+   * The contextual data is restored for the duration of the task, when it runs on a non Vert.x thread.
+   * On a Vert.x thread, the task sees the contextual data of the current context instead.
+   *
+   * @param task the task to wrap
+   * @return the wrapped task
+   */
+  Runnable wrap(Runnable task);
+
+  /**
+   * Wrap a task so that it runs with this contextual data.
+   *
+   * @param task the task to wrap
+   * @return the wrapped task
+   * @see #wrap(Runnable)
+   */
+  <V> Callable<V> wrap(Callable<V> task);
+}
@@ -17,12 +17,19 @@
 package io.reactiverse.contextual.logging;
 
 import io.reactiverse.contextual.logging.impl.ContextualDataImpl;
+import io.vertx.codegen.annotations.GenIgnore;
 import io.vertx.codegen.annotations.VertxGen;
 
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
 
 /**
  * Helper to store data in the local context.
+ * <p>
+ * On a non Vert.x thread, read methods see the data restored by tasks wrapped with {@link #wrap(Runnable)} and similar methods.
  */
 @VertxGen
 public interface ContextualData {
@@ -37,6 +44,130 @@ public interface ContextualData {
     ContextualDataImpl.put(key, value);
   }
 
+  /**
+   * Put a {@code long} value in the contextual data map.
+   * <p>
+   * The value is converted to text only when it is rendered: the log4j2 integration appends it to the layout buffer
+   * without an intermediate {@code String}, the Logback and JUL integrations convert it to a {@code String}.
+   *
+   * @param key the key of the data in the contextual data map
+   * @param value the data value
+   */
+  static void putLong(String key, long value) {
+    ContextualDataImpl.putLong(key, value);
+  }
+
+  /**
+   * Put an {@code int} value in the contextual data map.
+   * <p>
+   * The value is converted to text only when it is rendered: the log4j2 integration appends it to the layout buffer
+   * without an intermediate {@code String}, the Logback and JUL integrations convert it to a {@code String}.
+   *
+   * @param key the key of the data in the contextual data map
+   * @param value the data value
+   */
+  static void putInt(String key, int value) {
+    ContextualDataImpl.putInt(key, value);
+  }
+
+  /**
+   * Put a {@code boolean} value in the contextual data map.
+   *
+   * @param key the key of the data in the contextual data map
+   * @param value the data value
+   */
+  static void putBoolean(String key, boolean value) {
+    ContextualDataImpl.putBoolean(key, value);
+  }
+
+  /**
+   * Put a value computed on first read in the contextual data map.
+   * <p>
+   * The {@code supplier} is invoked at most once, when the value is read for the first time (e.g. when a log message
+   * containing the value is rendered), possibly on a different thread.
+   * The result is then kept in the contextual data map.
+   * A {@code null} result is handled like an absent value.
+   * If the {@code supplier} throws an exception, the exception is propagated to the reader, and the supplier is invoked again on the next read.
+   *
+   * @param key the key of the data in the contextual data map
+   * @param supplier the supplier of the data value
+   */
+  @GenIgnore(GenIgnore.PERMITTED_TYPE)
+  static void putLazy(String key, Supplier<String> supplier) {
+    ContextualDataImpl.putLazy(key, supplier);
+  }
+
+  /**
+   * Get the request ID saved in the contextual data map, generating and saving one if absent.
+   * <p>
+   * Generated IDs are 26 chars long and ordered by creation time, e.g. {@code 01JAT3Q6W2N5V8XK4C7RZB1M9D}.
+   * Generation requires no locking, so it is cheaper than {@link java.util.UUID#randomUUID()} on event-loop threads.
+   * IDs are not suitable as secrets.
+   * <p>
+   * On a non Vert.x thread, a generated ID is returned but not saved.
+   *
+   * @param key the key of the data in the contextual data map
+   * @return the existing or generated request ID
+   */
+  static String ensureRequestId(String key) {
+    return ContextualDataImpl.ensureRequestId(key);
+  }
+
+  /**
+   * Put all the values in the contextual data map.
+   *
+   * @param values the data values
+   */
+  static void putAll(Map<String, String> values) {
+    ContextualDataImpl.putAll(values);
+  }
+
+  /**
+   * Remove a value from the contextual data map.
+   *
+   * @param key the key of the data in the contextual data map
+   */
+  static void remove(String key) {
+    ContextualDataImpl.remove(key);
+  }
+
+  /**
+   * Remove all values from the contextual data map.
+   */
+  static void clear() {
+    ContextualDataImpl.clear();
+  }
+
+  /**
+   * Put the values in the contextual data map while the {@code supplier} is invoked, then restore the previous values.
+   * <p>
+   * Only the keys of {@code values} are restored: they are set back to their previous value, or removed if they were absent.
+   * Callbacks invoked after the {@code supplier} returns, even on the same context, see the restored values.
+   *
+   * @param values the data values
+   * @param supplier the supplier to invoke
+   *
+   * @return the result of the {@code supplier}
+   */
+  @GenIgnore(GenIgnore.PERMITTED_TYPE)
+  static <T> T with(Map<String, String> values, Supplier<T> supplier) {
+    return ContextualDataImpl.with(values, supplier);
+  }
+
+  /**
+   * Like {@link #with(Map, Supplier)}, for a {@link Callable}.
+   *
+   * @param values the data values
+   * @param callable the callable to invoke
+   *
+   * @return the result of the {@code callable}
+   * @throws Exception any exception thrown by the {@code callable}
+   */
+  @GenIgnore(GenIgnore.PERMITTED_TYPE)
+  static <T> T call(Map<String, String> values, Callable<T> callable) throws Exception {
+    return ContextualDataImpl.call(values, callable);
+  }
+
   /**
    * Get a value from the contextual data map.
    *
@@ -60,12 +191,115 @@ public interface ContextualData {
     return ContextualDataImpl.getOrDefault(key, defaultValue);
   }
 
+  /**
+   * Get a {@code long} value from the contextual data map.
+   *
+   * @param key the key of the data in the contextual data map
+   * @param defaultValue the value returned when the {@code key} is not present in the contextual data map, is not a number, or the method is invoked on a non Vert.x thread
+   *
+   * @return the value or the {@code defaultValue}
+   */
+  static long getLong(String key, long defaultValue) {
+    return ContextualDataImpl.getLong(key, defaultValue);
+  }
+
+  /**
+   * Get an {@code int} value from the contextual data map.
+   *
+   * @param key the key of the data in the contextual data map
+   * @param defaultValue the value returned when the {@code key} is not present in the contextual data map, is not a number, or the method is invoked on a non Vert.x thread
+   *
+   * @return the value or the {@code defaultValue}
+   */
+  static int getInt(String key, int defaultValue) {
+    return ContextualDataImpl.getInt(key, defaultValue);
+  }
+
+  /**
+   * Get a {@code boolean} value from the contextual data map.
+   *
+   * @param key the key of the data in the contextual data map
+   * @param defaultValue the value returned when the {@code key} is not present in the contextual data map, is not a boolean, or the method is invoked on a non Vert.x thread
+   *
+   * @return the value or the {@code defaultValue}
+   */
+  static boolean getBoolean(String key, boolean defaultValue) {
+    return ContextualDataImpl.getBoolean(key, defaultValue);
+  }
+
   /**
    * Get all values from the contextual data map.
+   * <p>
+   * The returned map is an immutable snapshot, shared by all callers until the contextual data map is modified.
    *
    * @return the values or {@code null} if the method is invoked on a non Vert.x thread
    */
   static Map<String, String> getAll() {
     return ContextualDataImpl.getAll();
   }
+
+  /**
+   * Capture the contextual data map, to restore it later on a non Vert.x thread.
+   * <p>
+   * Capturing does not copy the map: the capture is shared with the context until the contextual data map is modified.
+   *
+   * @return the captured data, empty if the method is invoked on a non Vert.x thread without restored data
+   */
+  @GenIgnore
+  static CapturedContextualData capture() {
+    return ContextualDataImpl.capture();
+  }
+
+  /**
+   * Wrap a task so that it runs with the current contextual data, e.g. on a thread of an application thread pool.
+   * <p>
+   * The contextual data is restored for the duration of the task, and can then be read with the methods of this interface and by logging converters.
+   *
+   * @param task the task to wrap
+   *
+   * @return the wrapped task
+   * @see CapturedContextualData#wrap(Runnable)
+   */
+  @GenIgnore(GenIgnore.PERMITTED_TYPE)
+  static Runnable wrap(Runnable task) {
+    return ContextualDataImpl.wrap(task);
+  }
+
+  /**
+   * Like {@link #wrap(Runnable)}, for a {@link Callable}.
+   *
+   * @param task the task to wrap
+   *
+   * @return the wrapped task
+   */
+  @GenIgnore(GenIgnore.PERMITTED_TYPE)
+  static <V> Callable<V> wrap(Callable<V> task) {
+    return ContextualDataImpl.wrap(task);
+  }
+
+  /**
+   * Wrap an executor so that each task runs with the contextual data of the context it was submitted from.
+   * <p>
+   * This can be used with {@link java.util.concurrent.CompletableFuture#supplyAsync(Supplier, Executor)}, for example.
+   *
+   * @param executor the executor to wrap
+   *
+   * @return the wrapped executor
+   */
+  @GenIgnore(GenIgnore.PERMITTED_TYPE)
+  static Executor wrap(Executor executor) {
+    return ContextualDataImpl.wrap(executor);
+  }
+
+  /**
+   * Like {@link #wrap(Executor)}, for an {@link ExecutorService}.
+   *
+   * @param executorService the executor service to wrap
+   *
+   * @return the wrapped executor service
+   */
+  @GenIgnore(GenIgnore.PERMITTED_TYPE)
+  static ExecutorService wrap(ExecutorService executorService) {
+    return ContextualDataImpl.wrap(executorService);
+  }
 }
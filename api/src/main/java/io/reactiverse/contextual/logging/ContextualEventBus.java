@@ -0,0 +1,43 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.reactiverse.contextual.logging;
+
+import io.reactiverse.contextual.logging.impl.ContextualEventBusImpl;
+import io.vertx.core.Vertx;
+
+/**
+ * Propagates contextual data over the event bus.
+ * <p>
+ * When a message is sent, published, or replied to, the configured keys of the sender contextual data are written to a single message header.
+ * When the message is received, they are saved in the contextual data map of the consumer before the handler is invoked.
+ * <p>
+ * A reply does not replace the values of the requester, even those modified after the request was sent: only the keys it does not have are saved.
+ * <p>
+ * Values are sent as text: a value put with {@link ContextualData#putLong(String, long)}, {@link ContextualData#putInt(String, int)}
+ * or {@link ContextualData#putBoolean(String, boolean)} is received as a {@code String}, to be read with {@link ContextualData#get(String)}.
+ */
+public interface ContextualEventBus {
+
+  /**
+   * Install the event bus interceptors propagating contextual data.
+   *
+   * @param vertx   the Vert.x instance
+   * @param options the propagation options
+   */
+  static void install(Vertx vertx, ContextualEventBusOptions options) {
+    ContextualEventBusImpl.install(vertx, options);
+  }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.reactiverse.contextual.logging;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Options of the contextual data propagation over the event bus, see {@link ContextualEventBus}.
+ */
+public class ContextualEventBusOptions {
+
+  /**
+   * The default name of the message header carrying contextual data = {@code x-contextual-data}
+   */
+  public static final String DEFAULT_HEADER_NAME = "x-contextual-data";
+
+  /**
+   * The default compact encoding = {@code false}
+   */
+  public static final boolean DEFAULT_COMPACT_ENCODING = false;
+
+  private String headerName;
+  private Set<String> keys;
+  private boolean compactEncoding;
+
+  /**
+   * Default constructor.
+   */
+  public ContextualEventBusOptions() {
+    headerName = DEFAULT_HEADER_NAME;
+    keys = new LinkedHashSet<>();
+    compactEncoding = DEFAULT_COMPACT_ENCODING;
+  }
+
+  /**
+   * Copy constructor.
+   *
+   * @param other the options to copy
+   */
+  public ContextualEventBusOptions(ContextualEventBusOptions other) {
+    headerName = other.headerName;
+    keys = new LinkedHashSet<>(other.keys);
+    compactEncoding = other.compactEncoding;
+  }
+
+  /**
+   * @return the name of the message header carrying contextual data
+   */
+  public String getHeaderName() {
+    return headerName;
+  }
+
+  /**
+   * Set the name of the message header carrying contextual data.
+   *
+   * @param headerName the header name
+   * @return a reference to this, so the API can be used fluently
+   */
+  public ContextualEventBusOptions setHeaderName(String headerName) {
+    this.headerName = Objects.requireNonNull(headerName);
+    return this;
+  }
+
+  /**
+   * @return the keys of the contextual data propagated over the event bus
+   */
+  public Set<String> getKeys() {
+    return Collections.unmodifiableSet(keys);
+  }
+
+  /**
+   * Set the keys of the contextual data propagated over the event bus.
+   * Other keys are neither sent nor accepted from received messages.
+   *
+   * @param keys the keys
+   * @return a reference to this, so the API can be used fluently
+   */
+  public ContextualEventBusOptions setKeys(Set<String> keys) {
+    this.keys = new LinkedHashSet<>(keys);
+    return this;
+  }
+
+  /**
+   * @return whether contextual data is written with the compact encoding
+   */
+  public boolean isCompactEncoding() {
+    return compactEncoding;
+  }
+
+  /**
+   * Set whether contextual data is written with a compact encoding, which is smaller on the wire of a clustered event bus.
+   * <p>
+   * With this encoding, keys are written by index instead of by name: all the nodes must be configured with the same keys, in the same order.
+   * Received messages are decoded whatever the encoding they were written with.
+   *
+   * @param compactEncoding {@code true} to use the compact encoding
+   * @return a reference to this, so the API can be used fluently
+   */
+  public ContextualEventBusOptions setCompactEncoding(boolean compactEncoding) {
+    this.compactEncoding = compactEncoding;
+    return this;
+  }
+
+  /**
+   * Add a key of the contextual data propagated over the event bus.
+   *
+   * @param key the key
+   * @return a reference to this, so the API can be used fluently
+   * @see #setKeys(Set)
+   */
+  public ContextualEventBusOptions addKey(String key) {
+    keys.add(Objects.requireNonNull(key));
+    return this;
+  }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.reactiverse.contextual.logging;
+
+import io.reactiverse.contextual.logging.impl.ContextualKeyImpl;
+
+/**
+ * A key of the contextual data map, registered once and then used to access values without resolving the key name again.
+ * <p>
+ * A registered key holds the canonical instance of its name, so the contextual data map finds its entry by comparing names
+ * by identity, without hashing or comparing characters. The map is still searched: linearly up to a few entries, then by hash.
+ * <p>
+ * Keys are usually registered when the application starts, and stored in static fields:
+ *
+ * <pre>
+ * static final ContextualKey&lt;String&gt; REQUEST_ID = ContextualKey.register("requestId");
+ * </pre>
+ * <p>
+ * Registering the same name several times returns keys that refer to the same entry of the contextual data map.
+ * This entry is also visible with the {@link ContextualData} methods and in logging converters.
+ *
+ * @param <T> the type of the value
+ */
+public interface ContextualKey<T> {
+
+  /**
+   * Register a key with {@link String} values.
+   *
+   * @param name the name of the key in the contextual data map
+   *
+   * @return the key
+   */
+  static ContextualKey<String> register(String name) {
+    return ContextualKeyImpl.register(name, String.class);
+  }
+
+  /**
+   * Register a key.
+   *
+   * @param name the name of the key in the contextual data map
+   * @param type the type of the value
+   *
+   * @return the key
+   */
+  static <T> ContextualKey<T> register(String name, Class<T> type) {
+    return ContextualKeyImpl.register(name, type);
+  }
+
+  /**
+   * @return the name of the key in the contextual data map
+   */
+  String name();
+
+  /**
+   * @return the type of the value
+   */
+  Class<T> type();
+
+  /**
+   * Get the value of this key from the contextual data map.
+   *
+   * @return the value or null if absent or the method is invoked on a non Vert.x thread
+   * @throws ClassCastException if the value stored under this name is not an instance of {@link #type()}
+   */
+  T get();
+
+  /**
+   * Get the value of this key from the contextual data map.
+   *
+   * @param defaultValue the value returned when the key is not present in the contextual data map or the method is invoked on a non Vert.x thread
+   *
+   * @return the value or the {@code defaultValue} if absent or the method is invoked on a non Vert.x thread
+   * @throws ClassCastException if the value stored under this name is not an instance of {@link #type()}
+   */
+  T getOrDefault(T defaultValue);
+
+  /**
+   * Put the value of this key in the contextual data map.
+   *
+   * @param value the data value
+   */
+  void set(T value);
+
+  /**
+   * Remove the value of this key from the contextual data map.
+   */
+  void remove();
+}
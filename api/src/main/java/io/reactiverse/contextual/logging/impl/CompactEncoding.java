@@ -0,0 +1,124 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.reactiverse.contextual.logging.impl;
+
+import java.util.Arrays;
+
+/**
+ * Compact encoding of contextual data in an event bus header, for clustered event buses.
+ * <p>
+ * Keys are not written by name, but by their index in the allowlist, which must then be the same on all the nodes.
+ * The header value is a block starting with {@link #MARKER}, followed by {@code (index, length, value)} entries:
+ * <ul>
+ *   <li>index and length are variable-length integers, with 6 bits per char and {@code 0x40} as continuation bit</li>
+ *   <li>value is the {@code length} chars of the value</li>
+ * </ul>
+ * Structure chars are all below {@code 0x80}, so they use a single byte when the header is serialized to UTF-8 on the wire.
+ * <p>
+ * Values are only extracted from the block when they are read.
+ */
+final class CompactEncoding {
+
+  static final char MARKER = '\u0001';
+
+  private CompactEncoding() {
+  }
+
+  static boolean isCompact(String encoded) {
+    return !encoded.isEmpty() && encoded.charAt(0) == MARKER;
+  }
+
+  static String encode(String[] names, ContextualDataView view) {
+    StringBuilder sb = null;
+    for (int i = 0; i < names.length; i++) {
+      Object value = view.get(names[i]);
+      if (value != null) {
+        if (sb == null) {
+          sb = new StringBuilder().append(MARKER);
+        }
+        String s = value.toString();
+        writeVarint(sb, i);
+        writeVarint(sb, s.length());
+        sb.append(s);
+      }
+    }
+    return sb != null ? sb.toString() : null;
+  }
+
+  static ContextualEventBusImpl.Decoded decode(String[] names, String block) {
+    int count = 0;
+    String[] decodedNames = new String[names.length];
+    Object[] decodedValues = new Object[names.length];
+    int pos = 1;
+    while (pos < block.length()) {
+      long index = readVarint(block, pos);
+      if (index < 0) {
+        break;
+      }
+      long length = readVarint(block, (int) index);
+      if (length < 0) {
+        break;
+      }
+      int start = (int) length;
+      int end = start + (int) (length >>> 32);
+      if (end < start || end > block.length()) {
+        break;
+      }
+      int i = (int) (index >>> 32);
+      if (i < names.length && !contains(decodedNames, count, names[i])) {
+        decodedNames[count] = names[i];
+        decodedValues[count++] = new LazyValue(() -> block.substring(start, end));
+      }
+      pos = end;
+    }
+    return new ContextualEventBusImpl.Decoded(block, Arrays.copyOf(decodedNames, count), Arrays.copyOf(decodedValues, count));
+  }
+
+  private static void writeVarint(StringBuilder sb, int value) {
+    while (value >= 0x40) {
+      sb.append((char) (0x40 | (value & 0x3F)));
+      value >>>= 6;
+    }
+    sb.append((char) value);
+  }
+
+  /**
+   * @return the value in the upper 32 bits and the position after it in the lower 32 bits, or {@code -1} if the block is truncated or malformed
+   */
+  private static long readVarint(String block, int pos) {
+    long value = 0;
+    for (int shift = 0; shift < 32; shift += 6) {
+      if (pos >= block.length()) {
+        return -1;
+      }
+      char c = block.charAt(pos++);
+      value |= (long) (c & 0x3F) << shift;
+      if ((c & 0x40) == 0) {
+        return value > Integer.MAX_VALUE ? -1 : value << 32 | pos;
+      }
+    }
+    return -1;
+  }
+
+  static boolean contains(String[] array, int length, String value) {
+    for (int i = 0; i < length; i++) {
+      if (array[i] == value) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
@@ -16,24 +16,21 @@
 
 package io.reactiverse.contextual.logging.impl;
 
+import io.reactiverse.contextual.logging.CapturedContextualData;
 import io.vertx.core.internal.ContextInternal;
-import io.vertx.core.internal.logging.Logger;
-import io.vertx.core.internal.logging.LoggerFactory;
 
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
 
 import static io.reactiverse.contextual.logging.impl.ContextualDataStorage.CONTEXTUAL_DATA_KEY;
 import static io.vertx.core.spi.context.storage.AccessMode.CONCURRENT;
 
 public class ContextualDataImpl {
 
-  private static final Logger log = LoggerFactory.getLogger(ContextualDataImpl.class);
-
   /**
    * Put a value in the contextual data map.
    *
@@ -43,29 +40,204 @@ public class ContextualDataImpl {
   public static void put(String key, String value) {
     Objects.requireNonNull(key);
     Objects.requireNonNull(value);
+    putEntry(ContextualKeyRegistry.canonical(key), value);
+  }
+
+  /**
+   * Put a value in the contextual data map.
+   *
+   * @param name  the name of the key, as resolved by the {@link ContextualKeyRegistry}
+   * @param value the data value
+   */
+  static void putEntry(String name, Object value) {
     ContextInternal ctx = ContextInternal.current();
     if (ctx == null) {
-      if (log.isTraceEnabled()) {
-        log.trace("Attempt to set contextual data from a non Vert.x thread", new Exception());
-      }
+      OffContextWrites.record();
     } else {
-      contextualDataMap(ctx).put(key, value);
+      getOrCreateContextualDataMap(ctx).put(name, value);
     }
   }
 
   /**
-   * Get a value from the contextual data map.
+   * Put a {@code long} value in the contextual data map.
+   *
+   * @param key   the key of the data in the contextual data map
+   * @param value the data value
+   */
+  public static void putLong(String key, long value) {
+    Objects.requireNonNull(key);
+    putEntry(ContextualKeyRegistry.canonical(key), value);
+  }
+
+  /**
+   * Put an {@code int} value in the contextual data map.
+   *
+   * @param key   the key of the data in the contextual data map
+   * @param value the data value
+   */
+  public static void putInt(String key, int value) {
+    Objects.requireNonNull(key);
+    putEntry(ContextualKeyRegistry.canonical(key), value);
+  }
+
+  /**
+   * Put a {@code boolean} value in the contextual data map.
+   *
+   * @param key   the key of the data in the contextual data map
+   * @param value the data value
+   */
+  public static void putBoolean(String key, boolean value) {
+    Objects.requireNonNull(key);
+    putEntry(ContextualKeyRegistry.canonical(key), value);
+  }
+
+  /**
+   * Put a value computed on first read in the contextual data map.
+   *
+   * @param key      the key of the data in the contextual data map
+   * @param supplier the supplier of the data value
+   */
+  public static void putLazy(String key, Supplier<String> supplier) {
+    Objects.requireNonNull(key);
+    Objects.requireNonNull(supplier);
+    putEntry(ContextualKeyRegistry.canonical(key), new LazyValue(supplier));
+  }
+
+  /**
+   * Get the request ID saved in the contextual data map, generating and saving one if absent.
    *
    * @param key the key of the data in the contextual data map
-   * @return the value or null if absent or the method is invoked on a non Vert.x thread
+   * @return the existing or generated request ID
    */
-  public static String get(String key) {
+  public static String ensureRequestId(String key) {
     Objects.requireNonNull(key);
+    String name = ContextualKeyRegistry.canonical(key);
+    Object value = getEntry(name);
+    if (value != null) {
+      return value.toString();
+    }
+    String requestId = RequestIdGenerator.next();
+    putEntry(name, requestId);
+    return requestId;
+  }
+
+  /**
+   * Put all the values in the contextual data map.
+   *
+   * @param values the data values
+   */
+  public static void putAll(Map<String, String> values) {
+    Objects.requireNonNull(values);
+    ContextInternal ctx = ContextInternal.current();
+    if (ctx == null) {
+      OffContextWrites.record();
+    } else if (!values.isEmpty()) {
+      String[] names = new String[values.size()];
+      Object[] data = new Object[values.size()];
+      resolve(values, names, data);
+      getOrCreateContextualDataMap(ctx).update(names, data);
+    }
+  }
+
+  /**
+   * Put values in the contextual data map, with a single update of the map.
+   *
+   * @param names  the names of the keys, as resolved by the {@link ContextualKeyRegistry}
+   * @param values the data values
+   */
+  public static void putAll(String[] names, Object[] values) {
+    ContextInternal ctx = ContextInternal.current();
+    if (ctx == null) {
+      OffContextWrites.record();
+    } else {
+      getOrCreateContextualDataMap(ctx).putAll(names, values);
+    }
+  }
+
+  /**
+   * Remove a value from the contextual data map.
+   *
+   * @param key the key of the data in the contextual data map
+   */
+  public static void remove(String key) {
+    Objects.requireNonNull(key);
+    String name = ContextualKeyRegistry.lookup(key);
+    if (name != null) {
+      removeEntry(name);
+    }
+  }
+
+  /**
+   * Remove a value from the contextual data map.
+   *
+   * @param name the name of the key, as resolved by the {@link ContextualKeyRegistry}
+   */
+  static void removeEntry(String name) {
+    ContextInternal ctx = ContextInternal.current();
+    if (ctx != null) {
+      ContextualDataMap map = contextualDataMap(ctx);
+      if (map != null) {
+        map.remove(name);
+      }
+    }
+  }
+
+  /**
+   * Remove all values from the contextual data map.
+   */
+  public static void clear() {
     ContextInternal ctx = ContextInternal.current();
     if (ctx != null) {
-      return contextualDataMap(ctx).get(key);
+      ContextualDataMap map = contextualDataMap(ctx);
+      if (map != null) {
+        map.clear();
+      }
+    }
+  }
+
+  /**
+   * Put the values in the contextual data map while the {@code supplier} is invoked, then restore the previous values.
+   *
+   * @param values   the data values
+   * @param supplier the supplier to invoke
+   * @return the result of the {@code supplier}
+   */
+  public static <T> T with(Map<String, String> values, Supplier<T> supplier) {
+    Objects.requireNonNull(supplier);
+    Scope scope = Scope.enter(values);
+    try {
+      return supplier.get();
+    } finally {
+      scope.exit();
+    }
+  }
+
+  /**
+   * Put the values in the contextual data map while the {@code callable} is invoked, then restore the previous values.
+   *
+   * @param values   the data values
+   * @param callable the callable to invoke
+   * @return the result of the {@code callable}
+   * @throws Exception any exception thrown by the {@code callable}
+   */
+  public static <T> T call(Map<String, String> values, Callable<T> callable) throws Exception {
+    Objects.requireNonNull(callable);
+    Scope scope = Scope.enter(values);
+    try {
+      return callable.call();
+    } finally {
+      scope.exit();
     }
-    return null;
+  }
+
+  /**
+   * Get a value from the contextual data map.
+   *
+   * @param key the key of the data in the contextual data map
+   * @return the value or null if absent or the method is invoked on a non Vert.x thread
+   */
+  public static String get(String key) {
+    return getOrDefault(key, null);
   }
 
   /**
@@ -76,12 +248,114 @@ public class ContextualDataImpl {
    * @return the value or the {@code defaultValue} if absent or the method is invoked on a non Vert.x thread
    */
   public static String getOrDefault(String key, String defaultValue) {
+    Object value = getValue(key);
+    return value != null ? value.toString() : defaultValue;
+  }
+
+  /**
+   * Get a {@code long} value from the contextual data map.
+   *
+   * @param key          the key of the data in the contextual data map
+   * @param defaultValue the value returned when the {@code key} is not present in the contextual data map, has another type, or the method is invoked on a non Vert.x thread
+   * @return the value or the {@code defaultValue}
+   */
+  public static long getLong(String key, long defaultValue) {
+    Object value = getValue(key);
+    return value instanceof Number ? ((Number) value).longValue() : defaultValue;
+  }
+
+  /**
+   * Get an {@code int} value from the contextual data map.
+   *
+   * @param key          the key of the data in the contextual data map
+   * @param defaultValue the value returned when the {@code key} is not present in the contextual data map, has another type, or the method is invoked on a non Vert.x thread
+   * @return the value or the {@code defaultValue}
+   */
+  public static int getInt(String key, int defaultValue) {
+    Object value = getValue(key);
+    return value instanceof Number ? ((Number) value).intValue() : defaultValue;
+  }
+
+  /**
+   * Get a {@code boolean} value from the contextual data map.
+   *
+   * @param key          the key of the data in the contextual data map
+   * @param defaultValue the value returned when the {@code key} is not present in the contextual data map, has another type, or the method is invoked on a non Vert.x thread
+   * @return the value or the {@code defaultValue}
+   */
+  public static boolean getBoolean(String key, boolean defaultValue) {
+    Object value = getValue(key);
+    return value instanceof Boolean ? (Boolean) value : defaultValue;
+  }
+
+  private static Object getValue(String key) {
     Objects.requireNonNull(key);
+    String name = ContextualKeyRegistry.lookup(key);
+    if (name == null) {
+      if (Metrics.ENABLED) {
+        Metrics.METRICS.read(false);
+      }
+      return null;
+    }
+    return read(name);
+  }
+
+  /**
+   * Like {@link #getEntry(String)}, for reads of the application: the read is recorded by the {@link Metrics}.
+   */
+  static Object read(String name) {
+    Object value = getEntry(name);
+    if (Metrics.ENABLED) {
+      Metrics.METRICS.read(value != null);
+    }
+    return value;
+  }
+
+  /**
+   * Get a value from the contextual data map.
+   *
+   * @param name the name of the key, as resolved by the {@link ContextualKeyRegistry}
+   * @return the value or null if absent or the method is invoked on a non Vert.x thread
+   */
+  static Object getEntry(String name) {
     ContextInternal ctx = ContextInternal.current();
     if (ctx != null) {
-      return contextualDataMap(ctx).getOrDefault(key, defaultValue);
+      ContextualDataMap map = contextualDataMap(ctx);
+      if (map != null) {
+        return map.get(name);
+      }
+      return null;
     }
-    return defaultValue;
+    ContextualDataView restored = ContextualDataView.RESTORED.get();
+    return restored != null ? restored.get(name) : null;
+  }
+
+  /**
+   * Get a value from the contextual data map.
+   *
+   * @param name         the name of the key, as resolved by the {@link ContextualKeyRegistry}
+   * @param defaultValue the value returned when the key is not present in the contextual data map or the method is invoked on a non Vert.x thread
+   * @return the value or the {@code defaultValue} if absent or the method is invoked on a non Vert.x thread
+   */
+  static Object readOrDefault(String name, Object defaultValue) {
+    Object value = read(name);
+    return value != null ? value : defaultValue;
+  }
+
+  /**
+   * Resolve the contextual data of the current context, so that several values can be read with a single context lookup.
+   * <p>
+   * On a non Vert.x thread, this is the contextual data restored by a wrapped task, if any.
+   *
+   * @return an immutable view, shared until the next write, or {@code null} if the method is invoked on a non Vert.x thread
+   */
+  public static ContextualDataView view() {
+    ContextInternal ctx = ContextInternal.current();
+    if (ctx != null) {
+      ContextualDataMap map = contextualDataMap(ctx);
+      return map != null ? map.view() : ContextualDataView.EMPTY;
+    }
+    return ContextualDataView.RESTORED.get();
   }
 
   /**
@@ -90,16 +364,167 @@ public class ContextualDataImpl {
    * @return the values or {@code null} if the method is invoked on a non Vert.x thread
    */
   public static Map<String, String> getAll() {
-    ContextInternal ctx = ContextInternal.current();
-    if (ctx != null) {
-      return Collections.unmodifiableMap(new HashMap<>(contextualDataMap(ctx)));
+    ContextualDataView view = view();
+    return view != null ? view.strings() : null;
+  }
+
+  /**
+   * Capture the contextual data of the current context.
+   *
+   * @return the captured data, empty if the method is invoked on a non Vert.x thread
+   */
+  public static CapturedContextualData capture() {
+    ContextualDataView view = view();
+    return view != null ? view : ContextualDataView.EMPTY;
+  }
+
+  /**
+   * Wrap a task so that it runs with the contextual data of the current context.
+   *
+   * @param task the task to wrap
+   * @return the wrapped task
+   */
+  public static Runnable wrap(Runnable task) {
+    return capture().wrap(task);
+  }
+
+  /**
+   * Wrap a task so that it runs with the contextual data of the current context.
+   *
+   * @param task the task to wrap
+   * @return the wrapped task
+   */
+  public static <V> Callable<V> wrap(Callable<V> task) {
+    return capture().wrap(task);
+  }
+
+  /**
+   * Wrap an executor so that tasks run with the contextual data of the context they were submitted from.
+   *
+   * @param executor the executor to wrap
+   * @return the wrapped executor
+   */
+  public static Executor wrap(Executor executor) {
+    Objects.requireNonNull(executor);
+    return task -> executor.execute(wrap(task));
+  }
+
+  /**
+   * Wrap an executor service so that tasks run with the contextual data of the context they were submitted from.
+   *
+   * @param executorService the executor service to wrap
+   * @return the wrapped executor service
+   */
+  public static ExecutorService wrap(ExecutorService executorService) {
+    return new ContextualExecutorService(Objects.requireNonNull(executorService));
+  }
+
+  private static void resolve(Map<String, String> values, String[] names, Object[] data) {
+    int i = 0;
+    for (Map.Entry<String, String> entry : values.entrySet()) {
+      names[i] = ContextualKeyRegistry.canonical(Objects.requireNonNull(entry.getKey()));
+      data[i++] = Objects.requireNonNull(entry.getValue());
     }
-    return null;
   }
 
-  @SuppressWarnings({"unchecked", "rawtypes"})
-  private static ConcurrentMap<String, String> contextualDataMap(ContextInternal ctx) {
-    ConcurrentMap lcd = Objects.requireNonNull(ctx).getLocal(CONTEXTUAL_DATA_KEY, CONCURRENT, ConcurrentHashMap::new);
-    return (ConcurrentMap<String, String>) lcd;
+  /**
+   * Get all values from the contextual data map, without converting them to {@code String}.
+   *
+   * @return the values or {@code null} if the method is invoked on a non Vert.x thread
+   */
+  public static Map<String, Object> getAllValues() {
+    ContextualDataView view = view();
+    return view != null ? view.values() : null;
+  }
+
+  /**
+   * Append a contextual data value to {@code sb}, without creating an intermediate {@code String} for primitive values,
+   * for integrations writing to the layout buffer.
+   *
+   * @param sb    the builder
+   * @param value the value
+   */
+  public static void appendValue(StringBuilder sb, Object value) {
+    if (value instanceof String) {
+      sb.append((String) value);
+    } else if (value instanceof Long) {
+      sb.append(((Long) value).longValue());
+    } else if (value instanceof Integer) {
+      sb.append(((Integer) value).intValue());
+    } else if (value instanceof Boolean) {
+      sb.append(((Boolean) value).booleanValue());
+    } else {
+      sb.append(value);
+    }
+  }
+
+  /**
+   * Tell the entries of the contextual data from the other entries of a logging framework context data, e.g. the thread
+   * context entries of a log4j2 event.
+   *
+   * @param name the name of an entry
+   * @return whether {@code name} is used as a contextual data key, always {@code true} once more than
+   * {@link ContextualKeyRegistry#MAX_NAMES} key names are used
+   */
+  public static boolean isKeyName(String name) {
+    return ContextualKeyRegistry.lookup(name) != null;
+  }
+
+  /**
+   * Read operations must not install a map in contexts that never had contextual data.
+   *
+   * @return the contextual data map of the {@code ctx}, or {@code null} if none has been created yet
+   */
+  private static ContextualDataMap contextualDataMap(ContextInternal ctx) {
+    return Objects.requireNonNull(ctx).getLocal(CONTEXTUAL_DATA_KEY, CONCURRENT);
+  }
+
+  private static ContextualDataMap getOrCreateContextualDataMap(ContextInternal ctx) {
+    ContextualDataMap map = contextualDataMap(ctx);
+    if (map == null) {
+      map = ctx.getLocal(CONTEXTUAL_DATA_KEY, CONCURRENT, ContextualDataStorage::createContextualDataMap);
+    }
+    return map;
+  }
+
+  /**
+   * Values put in the contextual data map for the duration of a {@link #with} or {@link #call} block.
+   */
+  private static final class Scope {
+
+    static final Scope NOOP = new Scope(null, null, null);
+
+    final ContextualDataMap map;
+    final String[] names;
+    final Object[] previous;
+
+    Scope(ContextualDataMap map, String[] names, Object[] previous) {
+      this.map = map;
+      this.names = names;
+      this.previous = previous;
+    }
+
+    static Scope enter(Map<String, String> values) {
+      Objects.requireNonNull(values);
+      ContextInternal ctx = ContextInternal.current();
+      if (ctx == null) {
+        OffContextWrites.record();
+        return NOOP;
+      }
+      if (values.isEmpty()) {
+        return NOOP;
+      }
+      String[] names = new String[values.size()];
+      Object[] data = new Object[values.size()];
+      resolve(values, names, data);
+      ContextualDataMap map = getOrCreateContextualDataMap(ctx);
+      return new Scope(map, names, map.update(names, data));
+    }
+
+    void exit() {
+      if (map != null) {
+        map.update(names, previous);
+      }
+    }
   }
 }
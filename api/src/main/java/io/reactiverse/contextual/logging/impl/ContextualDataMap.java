@@ -0,0 +1,326 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.reactiverse.contextual.logging.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+
+/**
+ * The contextual data map stored in the local context.
+ * <p>
+ * Entries are stored inline in a single array, alternating key names and values.
+ * Key names are the canonical instances held by the {@link ContextualKeyRegistry}, so they are compared by identity,
+ * unless the registry has reached its bound.
+ * <ul>
+ *   <li>up to {@link #INLINE_THRESHOLD} entries, the array is packed and scanned linearly</li>
+ *   <li>past this threshold, the array is an open-addressing hash table</li>
+ * </ul>
+ * <p>
+ * The array is never modified once published: each write replaces it with an updated copy.
+ * The array therefore acts as a version stamp for the immutable view returned by {@link #view()},
+ * which can be reused until the map is modified again.
+ * <p>
+ * The array is read with volatile semantics and replaced with a CAS, so the map can be accessed from any thread.
+ */
+public final class ContextualDataMap {
+
+  static final int INLINE_THRESHOLD = 8;
+
+  static final Object[] EMPTY = new Object[0];
+  private static final VarHandle TABLE;
+
+  static {
+    try {
+      TABLE = MethodHandles.lookup().findVarHandle(ContextualDataMap.class, "table", Object[].class);
+    } catch (ReflectiveOperationException e) {
+      throw new ExceptionInInitializerError(e);
+    }
+  }
+
+  private Object[] table = EMPTY;
+  private volatile ContextualDataView view;
+
+  Object get(String name) {
+    return LazyValue.resolve(get(table(), name));
+  }
+
+  void put(String name, Object value) {
+    Object[] current, updated;
+    do {
+      current = table();
+      updated = put(current, name, value);
+    } while (!TABLE.compareAndSet(this, current, updated));
+    recordUpdate(updated);
+  }
+
+  void remove(String name) {
+    Object[] current, updated;
+    do {
+      current = table();
+      updated = remove(current, name);
+    } while (!TABLE.compareAndSet(this, current, updated));
+    recordUpdate(updated);
+  }
+
+  /**
+   * Update several entries at once.
+   *
+   * @param names  the names of the keys to update
+   * @param values the new values, {@code null} elements remove the corresponding keys
+   * @return the values replaced by the update, {@code null} elements for keys that were absent
+   */
+  Object[] update(String[] names, Object[] values) {
+    Object[] current = replace(names, values);
+    Object[] previous = new Object[names.length];
+    for (int i = 0; i < names.length; i++) {
+      previous[i] = get(current, names[i]);
+    }
+    return previous;
+  }
+
+  /**
+   * Like {@link #update(String[], Object[])}, without returning the previous values.
+   */
+  void putAll(String[] names, Object[] values) {
+    replace(names, values);
+  }
+
+  private Object[] replace(String[] names, Object[] values) {
+    Object[] current, updated;
+    do {
+      current = table();
+      updated = update(current, names, values);
+    } while (!TABLE.compareAndSet(this, current, updated));
+    recordUpdate(updated);
+    return current;
+  }
+
+  void clear() {
+    TABLE.setVolatile(this, EMPTY);
+    recordUpdate(EMPTY);
+  }
+
+  /**
+   * @return an immutable view of the map, shared by callers until the next write
+   */
+  ContextualDataView view() {
+    Object[] t = table();
+    ContextualDataView v = view;
+    if (v == null || v.table != t) {
+      v = new ContextualDataView(t);
+      view = v;
+    }
+    return v;
+  }
+
+  private Object[] table() {
+    return (Object[]) TABLE.getVolatile(this);
+  }
+
+  private static void recordUpdate(Object[] table) {
+    if (Metrics.ENABLED) {
+      Metrics.METRICS.mapUpdated(size(table), estimatedBytes(table));
+    }
+  }
+
+  static int size(Object[] table) {
+    if (isInline(table)) {
+      return table.length / 2;
+    }
+    int size = 0;
+    for (int i = 0; i < table.length; i += 2) {
+      if (table[i] != null) {
+        size++;
+      }
+    }
+    return size;
+  }
+
+  /**
+   * @return the size of the {@code table} array, assuming compressed references: values are shared with the caller and not counted
+   */
+  static int estimatedBytes(Object[] table) {
+    return 16 + 4 * table.length;
+  }
+
+  private static boolean isInline(Object[] table) {
+    return table.length <= 2 * INLINE_THRESHOLD;
+  }
+
+  static Object get(Object[] table, String name) {
+    int i = indexOf(table, name);
+    return i >= 0 ? table[i + 1] : null;
+  }
+
+  /**
+   * @return the index of the key {@code name} in the {@code table}, or {@code -1} if absent
+   */
+  private static int indexOf(Object[] table, String name) {
+    if (isInline(table)) {
+      for (int i = 0; i < table.length; i += 2) {
+        if (table[i] == name) {
+          return i;
+        }
+      }
+      if (ContextualKeyRegistry.overflowed()) {
+        // The name may be held by another instance
+        for (int i = 0; i < table.length; i += 2) {
+          if (name.equals(table[i])) {
+            return i;
+          }
+        }
+      }
+      return -1;
+    }
+    int mask = table.length - 2;
+    for (int i = hash(name, mask); ; i = (i + 2) & mask) {
+      Object k = table[i];
+      if (k == name) {
+        return i;
+      }
+      if (k == null) {
+        return -1;
+      }
+      if (ContextualKeyRegistry.overflowed() && name.equals(k)) {
+        return i;
+      }
+    }
+  }
+
+  private static boolean sameName(Object key, String name) {
+    return key == name || (ContextualKeyRegistry.overflowed() && name.equals(key));
+  }
+
+  private static Object[] put(Object[] table, String name, Object value) {
+    int idx = indexOf(table, name);
+    if (idx >= 0) {
+      Object[] updated = table.clone();
+      updated[idx + 1] = value;
+      return updated;
+    }
+    if (isInline(table)) {
+      if (table.length < 2 * INLINE_THRESHOLD) {
+        Object[] updated = new Object[table.length + 2];
+        System.arraycopy(table, 0, updated, 0, table.length);
+        updated[table.length] = name;
+        updated[table.length + 1] = value;
+        return updated;
+      }
+      // Promote to a hash table
+      Object[] updated = rehash(table, 8 * INLINE_THRESHOLD);
+      insert(updated, name, value);
+      return updated;
+    }
+    int size = 0;
+    for (int i = 0; i < table.length; i += 2) {
+      if (table[i] != null) {
+        size++;
+      }
+    }
+    // Keep the load factor under 0.5
+    Object[] updated = 4 * (size + 1) > table.length ? rehash(table, 2 * table.length) : table.clone();
+    insert(updated, name, value);
+    return updated;
+  }
+
+  private static Object[] remove(Object[] table, String name) {
+    int i = indexOf(table, name);
+    if (i < 0) {
+      return table;
+    }
+    if (isInline(table)) {
+      if (table.length == 2) {
+        return EMPTY;
+      }
+      Object[] updated = new Object[table.length - 2];
+      System.arraycopy(table, 0, updated, 0, i);
+      System.arraycopy(table, i + 2, updated, i, table.length - i - 2);
+      return updated;
+    }
+    return update(table, new String[]{name}, new Object[1]);
+  }
+
+  private static Object[] update(Object[] table, String[] names, Object[] values) {
+    // Gather all entries in a packed array, then apply the changes
+    Object[] entries = new Object[table.length + 2 * names.length];
+    int length = 0;
+    for (int i = 0; i < table.length; i += 2) {
+      if (table[i] != null) {
+        entries[length++] = table[i];
+        entries[length++] = table[i + 1];
+      }
+    }
+    for (int i = 0; i < names.length; i++) {
+      int idx = 0;
+      while (idx < length && !sameName(entries[idx], names[i])) {
+        idx += 2;
+      }
+      if (values[i] != null) {
+        if (idx == length) {
+          length += 2;
+        }
+        entries[idx] = names[i];
+        entries[idx + 1] = values[i];
+      } else if (idx < length) {
+        // Move the last entry in place of the removed one
+        length -= 2;
+        entries[idx] = entries[length];
+        entries[idx + 1] = entries[length + 1];
+        entries[length] = null;
+        entries[length + 1] = null;
+      }
+    }
+    int size = length / 2;
+    if (size == 0) {
+      return EMPTY;
+    }
+    if (size <= INLINE_THRESHOLD) {
+      return entries.length == length ? entries : Arrays.copyOf(entries, length);
+    }
+    int capacity = 8 * INLINE_THRESHOLD;
+    while (4 * size > capacity) {
+      capacity *= 2;
+    }
+    return rehash(entries, capacity);
+  }
+
+  private static Object[] rehash(Object[] table, int length) {
+    Object[] updated = new Object[length];
+    for (int i = 0; i < table.length; i += 2) {
+      if (table[i] != null) {
+        insert(updated, (String) table[i], table[i + 1]);
+      }
+    }
+    return updated;
+  }
+
+  private static void insert(Object[] table, String name, Object value) {
+    int mask = table.length - 2;
+    int i = hash(name, mask);
+    while (table[i] != null) {
+      i = (i + 2) & mask;
+    }
+    table[i] = name;
+    table[i + 1] = value;
+  }
+
+  private static int hash(String name, int mask) {
+    int h = name.hashCode();
+    return ((h ^ (h >>> 16)) << 1) & mask;
+  }
+}
@@ -20,15 +20,19 @@ import io.vertx.core.internal.VertxBootstrap;
 import io.vertx.core.spi.VertxServiceProvider;
 import io.vertx.core.spi.context.storage.ContextLocal;
 
-import java.util.concurrent.ConcurrentMap;
-
 /**
  * SPI Implementation for {@link ContextLocal} storage.
  */
 public class ContextualDataStorage implements VertxServiceProvider {
 
-  @SuppressWarnings("rawtypes")
-  final static ContextLocal<ConcurrentMap> CONTEXTUAL_DATA_KEY = ContextLocal.registerLocal(ConcurrentMap.class);
+  public final static ContextLocal<ContextualDataMap> CONTEXTUAL_DATA_KEY = ContextLocal.registerLocal(ContextualDataMap.class);
+
+  static ContextualDataMap createContextualDataMap() {
+    if (Metrics.ENABLED) {
+      Metrics.METRICS.mapCreated();
+    }
+    return new ContextualDataMap();
+  }
 
   @Override
   public void init(VertxBootstrap builder) {
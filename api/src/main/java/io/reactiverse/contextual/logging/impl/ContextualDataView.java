@@ -0,0 +1,236 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.reactiverse.contextual.logging.impl;
+
+import io.reactiverse.contextual.logging.CapturedContextualData;
+import io.reactiverse.contextual.logging.ContextualKey;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.function.Function;
+
+/**
+ * An immutable view of the contextual data of a context, resolved once and then read without any context lookup.
+ * <p>
+ * Log integrations resolve a view once per log event, and read all the keys of the layout from it.
+ * A view is also the token returned by {@link ContextualDataImpl#capture()}: capturing the contextual data does not copy it.
+ */
+public final class ContextualDataView implements CapturedContextualData {
+
+  static final ContextualDataView EMPTY = new ContextualDataView(ContextualDataMap.EMPTY);
+
+  private static final int MAX_DERIVED = 4;
+
+  /**
+   * The view restored on a non Vert.x thread, see {@link #wrap(Runnable)}.
+   */
+  static final ThreadLocal<ContextualDataView> RESTORED = new ThreadLocal<>();
+
+  final Object[] table;
+  private volatile Snapshot snapshot;
+  private volatile Object[] sorted;
+  private volatile Object[] derived = ContextualDataMap.EMPTY;
+
+  ContextualDataView(Object[] table) {
+    this.table = table;
+  }
+
+  /**
+   * Get a value from the view.
+   *
+   * @param key the key of the data
+   * @return the value or {@code null} if absent
+   */
+  public Object get(ContextualKey<?> key) {
+    return LazyValue.resolve(ContextualDataMap.get(table, ((ContextualKeyImpl<?>) key).canonicalName()));
+  }
+
+  /**
+   * Get a value from the view.
+   *
+   * @param key          the key of the data
+   * @param defaultValue the value returned when the {@code key} is absent
+   * @return the value or the {@code defaultValue}
+   */
+  public Object getOrDefault(ContextualKey<?> key, Object defaultValue) {
+    Object value = get(key);
+    return value != null ? value : defaultValue;
+  }
+
+  /**
+   * Get a value from the view, for integrations given the name of the key rather than a {@link ContextualKey}.
+   *
+   * @param name the name of the key
+   * @return the value or {@code null} if absent
+   */
+  public Object lookup(String name) {
+    String canonicalName = ContextualKeyRegistry.lookup(Objects.requireNonNull(name));
+    return canonicalName != null ? get(canonicalName) : null;
+  }
+
+  Object get(String canonicalName) {
+    return LazyValue.resolve(ContextualDataMap.get(table, canonicalName));
+  }
+
+  /**
+   * @return an immutable copy of the view, with values converted to {@code String}
+   */
+  Map<String, String> strings() {
+    return snapshot().strings;
+  }
+
+  /**
+   * @return an immutable copy of the view
+   */
+  Map<String, Object> values() {
+    return snapshot().values;
+  }
+
+  private Snapshot snapshot() {
+    Snapshot s = snapshot;
+    if (s == null) {
+      Map<String, String> strings = new HashMap<>();
+      Map<String, Object> values = new HashMap<>();
+      for (int i = 0; i < table.length; i += 2) {
+        Object value;
+        if (table[i] != null && (value = LazyValue.resolve(table[i + 1])) != null) {
+          strings.put((String) table[i], value.toString());
+          values.put((String) table[i], value);
+        }
+      }
+      s = new Snapshot(Collections.unmodifiableMap(strings), Collections.unmodifiableMap(values));
+      snapshot = s;
+    }
+    return s;
+  }
+
+  /**
+   * Get the entries of the view sorted by key name, e.g. for binary searches or a stable rendering order.
+   *
+   * @return an array alternating key names and values, shared by callers: it must not be modified
+   */
+  public Object[] sortedEntries() {
+    Object[] s = sorted;
+    if (s == null) {
+      Object[] entries = new Object[table.length];
+      int length = 0;
+      for (int i = 0; i < table.length; i += 2) {
+        Object value;
+        if (table[i] != null && (value = LazyValue.resolve(table[i + 1])) != null) {
+          // Insertion sort, views hold a few entries
+          int j = length;
+          while (j > 0 && ((String) entries[j - 2]).compareTo((String) table[i]) > 0) {
+            entries[j] = entries[j - 2];
+            entries[j + 1] = entries[j - 1];
+            j -= 2;
+          }
+          entries[j] = table[i];
+          entries[j + 1] = value;
+          length += 2;
+        }
+      }
+      s = length == entries.length ? entries : Arrays.copyOf(entries, length);
+      sorted = s;
+    }
+    return s;
+  }
+
+  /**
+   * @return whether the view has no entries
+   */
+  public boolean isEmpty() {
+    return table.length == 0;
+  }
+
+  /**
+   * Compute a value derived from this view, e.g. an encoded form of it.
+   * <p>
+   * Since the view is immutable, the values computed for the last few owners are cached,
+   * so that integrations deriving values from the same views (e.g. event bus and HTTP propagation, log4j2) do not evict each other.
+   *
+   * @param owner    the owner of the derived value
+   * @param function the function computing the value
+   * @return the derived value
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T derive(Object owner, Function<ContextualDataView, T> function) {
+    Object[] d = derived;
+    for (int i = 0; i < d.length; i += 2) {
+      if (d[i] == owner) {
+        return (T) d[i + 1];
+      }
+    }
+    T value = function.apply(this);
+    // Racing owners may drop each other's value, which is only computed again
+    Object[] updated = new Object[Math.min(d.length + 2, 2 * MAX_DERIVED)];
+    updated[0] = owner;
+    updated[1] = value;
+    System.arraycopy(d, 0, updated, 2, updated.length - 2);
+    derived = updated;
+    return value;
+  }
+
+  @Override
+  public Runnable wrap(Runnable task) {
+    Objects.requireNonNull(task);
+    return () -> {
+      ContextualDataView previous = RESTORED.get();
+      RESTORED.set(this);
+      try {
+        task.run();
+      } finally {
+        restore(previous);
+      }
+    };
+  }
+
+  @Override
+  public <V> Callable<V> wrap(Callable<V> task) {
+    Objects.requireNonNull(task);
+    return () -> {
+      ContextualDataView previous = RESTORED.get();
+      RESTORED.set(this);
+      try {
+        return task.call();
+      } finally {
+        restore(previous);
+      }
+    };
+  }
+
+  private static void restore(ContextualDataView previous) {
+    if (previous == null) {
+      RESTORED.remove();
+    } else {
+      RESTORED.set(previous);
+    }
+  }
+
+  private static final class Snapshot {
+
+    final Map<String, String> strings;
+    final Map<String, Object> values;
+
+    Snapshot(Map<String, String> strings, Map<String, Object> values) {
+      this.strings = strings;
+      this.values = values;
+    }
+  }
+}
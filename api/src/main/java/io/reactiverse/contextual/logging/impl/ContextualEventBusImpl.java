@@ -0,0 +1,258 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.reactiverse.contextual.logging.impl;
+
+import io.reactiverse.contextual.logging.ContextualEventBusOptions;
+import io.vertx.core.MultiMap;
+import io.vertx.core.Vertx;
+import io.vertx.core.eventbus.DeliveryContext;
+import io.vertx.core.eventbus.EventBus;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Event bus interceptors propagating an allowlist of contextual data keys.
+ * <p>
+ * The keys are written to a single header, as {@code key=value} pairs separated by commas,
+ * with {@code %}, {@code ,} and {@code =} percent-encoded in values, or with the {@link CompactEncoding}.
+ * Both encodings are accepted by the inbound interceptor.
+ * <ul>
+ *   <li>the header value is derived once from an immutable {@link ContextualDataView}, and reused for all the messages sent with this view</li>
+ *   <li>for local deliveries, the header value instance is the one of the sender, so the last decoded value is reused as well</li>
+ * </ul>
+ */
+public final class ContextualEventBusImpl {
+
+  private final String headerName;
+  private final boolean compact;
+  private final String[] names;
+  private final Function<ContextualDataView, String> encoder = this::encode;
+  private volatile Decoded decoded;
+
+  public ContextualEventBusImpl(ContextualEventBusOptions options) {
+    headerName = options.getHeaderName();
+    compact = options.isCompactEncoding();
+    names = options.getKeys().stream()
+      .map(ContextualKeyRegistry::register)
+      .toArray(String[]::new);
+  }
+
+  public static void install(Vertx vertx, ContextualEventBusOptions options) {
+    Objects.requireNonNull(vertx);
+    ContextualEventBusImpl impl = new ContextualEventBusImpl(new ContextualEventBusOptions(Objects.requireNonNull(options)));
+    if (impl.names.length > 0) {
+      EventBus eventBus = vertx.eventBus();
+      eventBus.addOutboundInterceptor(impl::outbound);
+      eventBus.addInboundInterceptor(impl::inbound);
+    }
+  }
+
+  private void outbound(DeliveryContext<?> event) {
+    ContextualDataView view = ContextualDataImpl.view();
+    if (view != null && !view.isEmpty()) {
+      String encoded = view.derive(this, encoder);
+      if (encoded != null) {
+        event.message().headers().add(headerName, encoded);
+      }
+    }
+    event.next();
+  }
+
+  private void inbound(DeliveryContext<?> event) {
+    MultiMap headers = event.message().headers();
+    String encoded = headers.isEmpty() ? null : headers.get(headerName);
+    if (encoded != null) {
+      Decoded d = decoded;
+      if (d == null || d.encoded != encoded) {
+        d = decode(encoded);
+        decoded = d;
+      }
+      if (d.names.length > 0) {
+        putAbsent(d);
+      }
+    }
+    event.next();
+  }
+
+  /**
+   * Replies are received on the context of the request: the values of the requester are kept, even when it modified
+   * them after sending the request, and only the keys it does not have are added.
+   * <p>
+   * Values decoded lazily are not resolved, which would defeat laziness.
+   */
+  private static void putAbsent(Decoded d) {
+    ContextualDataView view = ContextualDataImpl.view();
+    if (view == null || view.isEmpty()) {
+      ContextualDataImpl.putAll(d.names, d.values);
+      return;
+    }
+    int count = 0;
+    String[] absentNames = null;
+    Object[] absentValues = null;
+    for (int i = 0; i < d.names.length; i++) {
+      if (ContextualDataMap.get(view.table, d.names[i]) == null) {
+        if (absentNames == null) {
+          absentNames = new String[d.names.length - i];
+          absentValues = new Object[d.names.length - i];
+        }
+        absentNames[count] = d.names[i];
+        absentValues[count++] = d.values[i];
+      }
+    }
+    if (count == d.names.length) {
+      ContextualDataImpl.putAll(d.names, d.values);
+    } else if (count > 0) {
+      ContextualDataImpl.putAll(Arrays.copyOf(absentNames, count), Arrays.copyOf(absentValues, count));
+    }
+  }
+
+  /**
+   * @return the header value for the {@code view}, or {@code null} if it has none of the allowlisted keys
+   */
+  public String encode(ContextualDataView view) {
+    return compact ? CompactEncoding.encode(names, view) : encodeText(view);
+  }
+
+  /**
+   * @return the values of a header written by {@link #encode(ContextualDataView)}
+   */
+  public Decoded decode(String encoded) {
+    return CompactEncoding.isCompact(encoded) ? CompactEncoding.decode(names, encoded) : decodeText(encoded);
+  }
+
+  private String encodeText(ContextualDataView view) {
+    StringBuilder sb = null;
+    for (String name : names) {
+      Object value = view.get(name);
+      if (value != null) {
+        if (sb == null) {
+          sb = new StringBuilder();
+        } else {
+          sb.append(',');
+        }
+        sb.append(name).append('=');
+        escape(sb, value.toString());
+      }
+    }
+    return sb != null ? sb.toString() : null;
+  }
+
+  private Decoded decodeText(String encoded) {
+    int count = 0;
+    String[] decodedNames = new String[names.length];
+    Object[] decodedValues = new Object[names.length];
+    int start = 0;
+    while (start < encoded.length()) {
+      int end = encoded.indexOf(',', start);
+      if (end == -1) {
+        end = encoded.length();
+      }
+      int separator = encoded.indexOf('=', start);
+      if (separator != -1 && separator < end) {
+        int index = indexOf(encoded, start, separator - start);
+        if (index != -1 && !CompactEncoding.contains(decodedNames, count, names[index])) {
+          decodedNames[count] = names[index];
+          decodedValues[count++] = unescape(encoded, separator + 1, end);
+        }
+      }
+      start = end + 1;
+    }
+    return new Decoded(encoded, Arrays.copyOf(decodedNames, count), Arrays.copyOf(decodedValues, count));
+  }
+
+  private int indexOf(String encoded, int offset, int length) {
+    for (int i = 0; i < names.length; i++) {
+      if (names[i].length() == length && encoded.startsWith(names[i], offset)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private static void escape(StringBuilder sb, String value) {
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      switch (c) {
+        case '%':
+          sb.append("%25");
+          break;
+        case ',':
+          sb.append("%2C");
+          break;
+        case '=':
+          sb.append("%3D");
+          break;
+        default:
+          sb.append(c);
+      }
+    }
+  }
+
+  private static String unescape(String encoded, int start, int end) {
+    int escape = encoded.indexOf('%', start);
+    if (escape == -1 || escape >= end) {
+      return encoded.substring(start, end);
+    }
+    StringBuilder sb = new StringBuilder(end - start);
+    for (int i = start; i < end; i++) {
+      char c = encoded.charAt(i);
+      if (c == '%' && i + 2 < end) {
+        int high = Character.digit(encoded.charAt(i + 1), 16);
+        int low = Character.digit(encoded.charAt(i + 2), 16);
+        // A malformed escape, e.g. from another producer, is kept as is rather than failing the delivery
+        if (high >= 0 && low >= 0) {
+          sb.append((char) (high << 4 | low));
+          i += 2;
+          continue;
+        }
+      }
+      sb.append(c);
+    }
+    return sb.toString();
+  }
+
+  /**
+   * Values decoded from a header.
+   */
+  public static final class Decoded {
+
+    final String encoded;
+    final String[] names;
+    final Object[] values;
+
+    Decoded(String encoded, String[] names, Object[] values) {
+      this.encoded = encoded;
+      this.names = names;
+      this.values = values;
+    }
+
+    /**
+     * @return the number of decoded values
+     */
+    public int size() {
+      return names.length;
+    }
+
+    /**
+     * @return the decoded value at {@code index}
+     */
+    public Object value(int index) {
+      return LazyValue.resolve(values[index]);
+    }
+  }
+}
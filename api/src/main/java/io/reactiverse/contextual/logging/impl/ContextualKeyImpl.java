@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.reactiverse.contextual.logging.impl;
+
+import io.reactiverse.contextual.logging.ContextualKey;
+
+import java.util.Objects;
+
+public final class ContextualKeyImpl<T> implements ContextualKey<T> {
+
+  private final String name;
+  private final Class<T> type;
+
+  private ContextualKeyImpl(String name, Class<T> type) {
+    this.name = name;
+    this.type = type;
+  }
+
+  public static <T> ContextualKey<T> register(String name, Class<T> type) {
+    Objects.requireNonNull(name);
+    Objects.requireNonNull(type);
+    return new ContextualKeyImpl<>(ContextualKeyRegistry.register(name), type);
+  }
+
+  /**
+   * @return the canonical instance of the key name, see {@link ContextualKeyRegistry}
+   */
+  String canonicalName() {
+    return name;
+  }
+
+  @Override
+  public String name() {
+    return name;
+  }
+
+  @Override
+  public Class<T> type() {
+    return type;
+  }
+
+  @Override
+  public T get() {
+    return type.cast(ContextualDataImpl.read(name));
+  }
+
+  @Override
+  public T getOrDefault(T defaultValue) {
+    return type.cast(ContextualDataImpl.readOrDefault(name, defaultValue));
+  }
+
+  @Override
+  public void set(T value) {
+    ContextualDataImpl.putEntry(name, type.cast(Objects.requireNonNull(value)));
+  }
+
+  @Override
+  public void remove() {
+    ContextualDataImpl.removeEntry(name);
+  }
+
+  @Override
+  public String toString() {
+    return "ContextualKey[" + name + "]";
+  }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.reactiverse.contextual.logging.impl;
+
+import io.vertx.core.internal.logging.Logger;
+import io.vertx.core.internal.logging.LoggerFactory;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Holds the canonical instance of the key names of the contextual data map, so that the map compares them by identity.
+ * <p>
+ * Names registered with {@link ContextualKeyImpl#register} are always canonical.
+ * Names used with the {@code ContextualData} methods are made canonical on first use, until the registry holds {@link #MAX_NAMES} names.
+ * Past this bound, e.g. when key names are built dynamically, new names are used as is: the registry stops growing,
+ * and the contextual data map falls back to {@code equals} when a name is not found by identity.
+ * Since this slows down all the lookups, a warning is logged when the bound is reached.
+ * <p>
+ * Canonical names are never released, the set of key names used by an application is expected to be small and fixed.
+ */
+final class ContextualKeyRegistry {
+
+  // Far more than the key names of an application, few enough to bound the memory held by dynamic names
+  static final int MAX_NAMES = 1024;
+
+  private static final Logger log = LoggerFactory.getLogger(ContextualKeyRegistry.class);
+
+  private static final ConcurrentMap<String, String> NAMES = new ConcurrentHashMap<>();
+  private static volatile boolean overflowed;
+
+  private ContextualKeyRegistry() {
+  }
+
+  /**
+   * @return the canonical instance of the key {@code name}, registering it regardless of the bound
+   */
+  static String register(String name) {
+    String canonical = NAMES.putIfAbsent(name, name);
+    return canonical != null ? canonical : name;
+  }
+
+  /**
+   * @return the canonical instance of the key {@code name}, registering it if the bound is not reached, or {@code name} itself otherwise
+   */
+  static String canonical(String name) {
+    String canonical = NAMES.get(name);
+    if (canonical != null) {
+      return canonical;
+    }
+    if (NAMES.size() < MAX_NAMES) {
+      return register(name);
+    }
+    if (!overflowed) {
+      overflow(name);
+    }
+    return name;
+  }
+
+  private static synchronized void overflow(String name) {
+    if (!overflowed) {
+      overflowed = true;
+      log.warn("More than " + MAX_NAMES + " contextual data key names are used, new names such as '" + name
+        + "' are not made canonical and all the contextual data lookups are slower: prefer a fixed set of key names");
+    }
+  }
+
+  /**
+   * @return the canonical instance of the key {@code name}, {@code name} itself if the bound has been reached, or {@code null} if the name cannot be in any map
+   */
+  static String lookup(String name) {
+    String canonical = NAMES.get(name);
+    return canonical != null || !overflowed ? canonical : name;
+  }
+
+  /**
+   * @return whether some names are not canonical, in which case names must be compared with {@code equals} when not found by identity
+   */
+  static boolean overflowed() {
+    return overflowed;
+  }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.reactiverse.contextual.logging.impl;
+
+import java.util.function.Supplier;
+
+/**
+ * A contextual data value computed on first read.
+ */
+final class LazyValue {
+
+  private static final Object ABSENT = new Object();
+
+  private Supplier<String> supplier;
+  private volatile Object value;
+
+  LazyValue(Supplier<String> supplier) {
+    this.supplier = supplier;
+  }
+
+  /**
+   * @return the value computed by the supplier, or {@code null} if it returned {@code null}
+   */
+  String get() {
+    Object v = value;
+    if (v == null) {
+      synchronized (this) {
+        v = value;
+        if (v == null) {
+          String computed = supplier.get();
+          v = computed != null ? computed : ABSENT;
+          value = v;
+          // Release whatever the supplier captured
+          supplier = null;
+        }
+      }
+    }
+    return v != ABSENT ? (String) v : null;
+  }
+
+  /**
+   * @return the value if {@code value} is a {@link LazyValue}, {@code value} otherwise
+   */
+  static Object resolve(Object value) {
+    return value instanceof LazyValue ? ((LazyValue) value).get() : value;
+  }
+}
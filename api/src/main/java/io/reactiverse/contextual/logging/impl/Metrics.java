@@ -0,0 +1,58 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.reactiverse.contextual.logging.impl;
+
+import io.reactiverse.contextual.logging.spi.ContextualDataMetrics;
+import io.reactiverse.contextual.logging.spi.ContextualDataMetricsMXBean;
+import io.vertx.core.internal.logging.Logger;
+import io.vertx.core.internal.logging.LoggerFactory;
+
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ServiceLoader;
+
+/**
+ * Holds the {@link ContextualDataMetrics} implementation, resolved once when the class is initialized.
+ * <p>
+ * Call sites must check {@link #ENABLED} first: when metrics are disabled, the JIT compiler removes the guarded code,
+ * including the computation of the recorded values.
+ */
+final class Metrics {
+
+  private static final Logger log = LoggerFactory.getLogger(Metrics.class);
+
+  static final ContextualDataMetrics METRICS = load();
+  static final boolean ENABLED = METRICS != null;
+
+  private Metrics() {
+  }
+
+  private static ContextualDataMetrics load() {
+    if (!Boolean.getBoolean(ContextualDataMetrics.METRICS_PROPERTY)) {
+      return null;
+    }
+    for (ContextualDataMetrics metrics : ServiceLoader.load(ContextualDataMetrics.class)) {
+      return metrics;
+    }
+    StripedContextualDataMetrics metrics = new StripedContextualDataMetrics();
+    try {
+      ManagementFactory.getPlatformMBeanServer().registerMBean(metrics, new ObjectName(ContextualDataMetricsMXBean.OBJECT_NAME));
+    } catch (Exception e) {
+      log.warn("Could not register the contextual data metrics MXBean", e);
+    }
+    return metrics;
+  }
+}
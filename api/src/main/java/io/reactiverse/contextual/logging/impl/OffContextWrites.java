@@ -0,0 +1,127 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.reactiverse.contextual.logging.impl;
+
+import io.vertx.core.internal.logging.Logger;
+import io.vertx.core.internal.logging.LoggerFactory;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * Diagnostics of the writes attempted from non Vert.x threads, which are ignored.
+ * <p>
+ * When the {@code TRACE} level is enabled for {@link ContextualDataImpl}, writes are counted per call site, that is
+ * the first stack frame outside the library. The stack trace of a call site is logged the first time only, and
+ * the counts are logged every {@link #REPORT_INTERVAL_PROPERTY} seconds, piggybacking on the recording thread.
+ * Finding the call site walks the frames lazily, up to the first one outside the library, instead of filling a stack trace.
+ */
+final class OffContextWrites {
+
+  // Same category as the previous per-call trace, so that existing logging configurations keep working
+  private static final Logger log = LoggerFactory.getLogger(ContextualDataImpl.class);
+
+  /**
+   * The name of the system property setting the interval between two reports, in seconds (default: 60).
+   */
+  static final String REPORT_INTERVAL_PROPERTY = "io.reactiverse.contextual.logging.offContextWrites.reportInterval";
+
+  private static final long REPORT_INTERVAL = TimeUnit.SECONDS.toNanos(Long.getLong(REPORT_INTERVAL_PROPERTY, 60));
+  private static final String API_PACKAGE = "io.reactiverse.contextual.logging.";
+  private static final String IMPL_PACKAGE = API_PACKAGE + "impl.";
+  // Call sites are code locations, so they are few; the bound protects from generated code
+  private static final int MAX_CALL_SITES = 256;
+  private static final StackTraceElement OTHER_CALL_SITES = new StackTraceElement("(other call sites)", "", null, -1);
+
+  private static final StackWalker WALKER = StackWalker.getInstance();
+  private static final ConcurrentMap<StackTraceElement, LongAdder> COUNTS = new ConcurrentHashMap<>();
+  private static final AtomicLong nextReport = new AtomicLong(System.nanoTime() + REPORT_INTERVAL);
+
+  private OffContextWrites() {
+  }
+
+  static void record() {
+    if (Metrics.ENABLED) {
+      Metrics.METRICS.offContextWrite();
+    }
+    if (!log.isTraceEnabled()) {
+      return;
+    }
+    StackTraceElement callSite = WALKER.walk(OffContextWrites::callSite).orElse(OTHER_CALL_SITES);
+    LongAdder count = COUNTS.get(callSite);
+    if (count == null) {
+      count = register(callSite);
+    }
+    count.increment();
+    long now = System.nanoTime();
+    long next = nextReport.get();
+    if (now - next >= 0 && nextReport.compareAndSet(next, now + REPORT_INTERVAL)) {
+      report();
+    }
+  }
+
+  private static Optional<StackTraceElement> callSite(Stream<StackWalker.StackFrame> frames) {
+    return frames
+      .filter(frame -> !isLibraryClass(frame.getClassName()))
+      .findFirst()
+      .map(StackWalker.StackFrame::toStackTraceElement);
+  }
+
+  private static boolean isLibraryClass(String className) {
+    if (className.startsWith(IMPL_PACKAGE)) {
+      return className.indexOf('.', IMPL_PACKAGE.length()) == -1;
+    }
+    return className.startsWith(API_PACKAGE) && className.indexOf('.', API_PACKAGE.length()) == -1;
+  }
+
+  private static LongAdder register(StackTraceElement callSite) {
+    if (COUNTS.size() >= MAX_CALL_SITES) {
+      return COUNTS.computeIfAbsent(OTHER_CALL_SITES, k -> new LongAdder());
+    }
+    boolean[] created = new boolean[1];
+    LongAdder count = COUNTS.computeIfAbsent(callSite, k -> {
+      created[0] = true;
+      return new LongAdder();
+    });
+    if (created[0]) {
+      log.trace("Attempt to set contextual data from a non Vert.x thread at " + callSite, new Exception());
+    }
+    return count;
+  }
+
+  private static void report() {
+    StringBuilder sb = new StringBuilder("Attempts to set contextual data from a non Vert.x thread in the last ")
+      .append(TimeUnit.NANOSECONDS.toSeconds(REPORT_INTERVAL))
+      .append(" s:");
+    boolean any = false;
+    for (Map.Entry<StackTraceElement, LongAdder> entry : COUNTS.entrySet()) {
+      long count = entry.getValue().sumThenReset();
+      if (count > 0) {
+        sb.append(System.lineSeparator()).append("  ").append(count).append(" at ").append(entry.getKey());
+        any = true;
+      }
+    }
+    if (any) {
+      log.trace(sb.toString());
+    }
+  }
+}
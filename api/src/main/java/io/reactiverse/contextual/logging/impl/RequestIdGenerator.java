@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.reactiverse.contextual.logging.impl;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Generates request IDs without locking.
+ * <p>
+ * An ID is made of 26 Crockford base32 chars: 10 chars for the current time in milliseconds, followed by 16 chars of random bits.
+ * Each thread has its own generator state:
+ * <ul>
+ *   <li>random bits come from {@link ThreadLocalRandom}, so there is no contention on a shared {@link java.security.SecureRandom}</li>
+ *   <li>within the same millisecond, the random part is incremented, so the IDs generated by a thread are strictly ordered</li>
+ * </ul>
+ * IDs are not suitable as secrets.
+ */
+public final class RequestIdGenerator {
+
+  private static final byte[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".getBytes(StandardCharsets.US_ASCII);
+  private static final long MASK_40 = (1L << 40) - 1;
+  private static final ThreadLocal<RequestIdGenerator> GENERATORS = ThreadLocal.withInitial(RequestIdGenerator::new);
+
+  private final byte[] buffer = new byte[26];
+  private long lastMillis = Long.MIN_VALUE;
+  private long high;
+  private long low;
+
+  private RequestIdGenerator() {
+  }
+
+  /**
+   * @return a new request ID
+   */
+  public static String next() {
+    return GENERATORS.get().generate();
+  }
+
+  private String generate() {
+    long millis = System.currentTimeMillis();
+    if (millis > lastMillis) {
+      lastMillis = millis;
+      ThreadLocalRandom random = ThreadLocalRandom.current();
+      high = random.nextLong() & MASK_40;
+      low = random.nextLong() & MASK_40;
+    } else {
+      // Same millisecond, or the clock went backwards: keep the previous time and increment
+      low = (low + 1) & MASK_40;
+      if (low == 0) {
+        high = (high + 1) & MASK_40;
+      }
+    }
+    encode(lastMillis, 0, 10);
+    encode(high, 10, 8);
+    encode(low, 18, 8);
+    return new String(buffer, StandardCharsets.ISO_8859_1);
+  }
+
+  private void encode(long value, int offset, int length) {
+    for (int i = offset + length - 1; i >= offset; i--) {
+      buffer[i] = ALPHABET[(int) (value & 0x1F)];
+      value >>>= 5;
+    }
+  }
+}
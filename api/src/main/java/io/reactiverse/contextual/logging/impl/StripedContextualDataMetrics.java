@@ -0,0 +1,138 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.reactiverse.contextual.logging.impl;
+
+import io.reactiverse.contextual.logging.spi.ContextualDataMetrics;
+import io.reactiverse.contextual.logging.spi.ContextualDataMetricsMXBean;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Built-in {@link ContextualDataMetrics} implementation, with striped counters so that threads recording concurrently do not contend.
+ * <p>
+ * Map sizes are counted in power-of-two buckets: 0, 1, 2, up to 4, up to 8, up to 16, up to 32 and more than 32 entries.
+ */
+public final class StripedContextualDataMetrics implements ContextualDataMetrics, ContextualDataMetricsMXBean {
+
+  private static final String[] BUCKETS = {"0", "1", "2", "4", "8", "16", "32", "+Inf"};
+
+  private final LongAdder mapsCreated = new LongAdder();
+  private final LongAdder mapUpdates = new LongAdder();
+  private final LongAdder entries = new LongAdder();
+  private final LongAdder bytes = new LongAdder();
+  private final LongAdder reads = new LongAdder();
+  private final LongAdder readMisses = new LongAdder();
+  private final LongAdder offContextWrites = new LongAdder();
+  private final LongAdder[] sizes = new LongAdder[BUCKETS.length];
+
+  public StripedContextualDataMetrics() {
+    for (int i = 0; i < sizes.length; i++) {
+      sizes[i] = new LongAdder();
+    }
+  }
+
+  static int bucket(int size) {
+    return size <= 1 ? size : Math.min(BUCKETS.length - 1, 33 - Integer.numberOfLeadingZeros(size - 1));
+  }
+
+  @Override
+  public void mapCreated() {
+    mapsCreated.increment();
+  }
+
+  @Override
+  public void mapUpdated(int size, int estimatedBytes) {
+    mapUpdates.increment();
+    entries.add(size);
+    bytes.add(estimatedBytes);
+    sizes[bucket(size)].increment();
+  }
+
+  @Override
+  public void read(boolean hit) {
+    reads.increment();
+    if (!hit) {
+      readMisses.increment();
+    }
+  }
+
+  @Override
+  public void offContextWrite() {
+    offContextWrites.increment();
+  }
+
+  @Override
+  public long getMapsCreated() {
+    return mapsCreated.sum();
+  }
+
+  @Override
+  public long getMapUpdates() {
+    return mapUpdates.sum();
+  }
+
+  @Override
+  public long getReads() {
+    return reads.sum();
+  }
+
+  @Override
+  public long getReadMisses() {
+    return readMisses.sum();
+  }
+
+  @Override
+  public long getOffContextWrites() {
+    return offContextWrites.sum();
+  }
+
+  @Override
+  public Map<String, Long> getMapSizeHistogram() {
+    Map<String, Long> histogram = new LinkedHashMap<>();
+    for (int i = 0; i < BUCKETS.length; i++) {
+      histogram.put(BUCKETS[i], sizes[i].sum());
+    }
+    return histogram;
+  }
+
+  @Override
+  public double getMeanMapSize() {
+    long count = mapUpdates.sum();
+    return count == 0 ? 0 : (double) entries.sum() / count;
+  }
+
+  @Override
+  public double getMeanMapBytes() {
+    long count = mapUpdates.sum();
+    return count == 0 ? 0 : (double) bytes.sum() / count;
+  }
+
+  @Override
+  public void reset() {
+    mapsCreated.reset();
+    mapUpdates.reset();
+    entries.reset();
+    bytes.reset();
+    reads.reset();
+    readMisses.reset();
+    offContextWrites.reset();
+    for (LongAdder size : sizes) {
+      size.reset();
+    }
+  }
+}
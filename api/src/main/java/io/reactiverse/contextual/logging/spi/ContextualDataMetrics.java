@@ -0,0 +1,62 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.reactiverse.contextual.logging.spi;
+
+/**
+ * Records the usage of the contextual data.
+ * <p>
+ * Metrics are disabled by default, see {@link #METRICS_PROPERTY}. Methods are invoked on the hot path of the
+ * contextual data operations, so implementations must not block and should avoid contention, e.g. with {@link java.util.concurrent.atomic.LongAdder}.
+ * <p>
+ * Implementations are discovered with the {@link java.util.ServiceLoader}: the first one found is used.
+ * If none is found, a built-in implementation is used and registered in the platform MBean server, see {@link ContextualDataMetricsMXBean}.
+ */
+public interface ContextualDataMetrics {
+
+  /**
+   * The name of the system property enabling metrics = {@code io.reactiverse.contextual.logging.metrics}
+   */
+  String METRICS_PROPERTY = "io.reactiverse.contextual.logging.metrics";
+
+  /**
+   * A contextual data map has been created in a context.
+   */
+  default void mapCreated() {
+  }
+
+  /**
+   * A contextual data map has been modified.
+   *
+   * @param size           the number of entries after the modification
+   * @param estimatedBytes the estimated size in bytes of the entries storage after the modification
+   */
+  default void mapUpdated(int size, int estimatedBytes) {
+  }
+
+  /**
+   * A value has been read from the contextual data map.
+   *
+   * @param hit {@code false} if the value is absent and the caller falls back to the default value
+   */
+  default void read(boolean hit) {
+  }
+
+  /**
+   * A write has been ignored because it was attempted from a non Vert.x thread.
+   */
+  default void offContextWrite() {
+  }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.reactiverse.contextual.logging.spi;
+
+import java.util.Map;
+
+/**
+ * Management interface of the built-in {@link ContextualDataMetrics} implementation, registered with the
+ * {@link #OBJECT_NAME} object name.
+ */
+public interface ContextualDataMetricsMXBean {
+
+  /**
+   * The object name of the MXBean = {@code io.reactiverse.contextual.logging:type=ContextualDataMetrics}
+   */
+  String OBJECT_NAME = "io.reactiverse.contextual.logging:type=ContextualDataMetrics";
+
+  /**
+   * @return the number of contextual data maps created
+   */
+  long getMapsCreated();
+
+  /**
+   * @return the number of contextual data map modifications
+   */
+  long getMapUpdates();
+
+  /**
+   * @return the number of values read from the contextual data map
+   */
+  long getReads();
+
+  /**
+   * @return the number of reads of absent values, falling back to the default value
+   */
+  long getReadMisses();
+
+  /**
+   * @return the number of writes ignored because attempted from a non Vert.x thread
+   */
+  long getOffContextWrites();
+
+  /**
+   * @return the number of map modifications by size after the modification, keyed by bucket upper bound
+   */
+  Map<String, Long> getMapSizeHistogram();
+
+  /**
+   * @return the mean number of entries after a map modification
+   */
+  double getMeanMapSize();
+
+  /**
+   * @return the mean estimated size in bytes of the entries storage after a map modification
+   */
+  double getMeanMapBytes();
+
+  /**
+   * Reset all the counters.
+   */
+  void reset();
+}
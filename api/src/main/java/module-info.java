@@ -18,12 +18,22 @@ module io.reactiverse.contextual.logging {
 
   requires io.vertx.core;
   requires io.vertx.core.logging;
+  requires java.management;
 
   // Annotation processing
 
   requires static io.vertx.codegen.api;
 
   exports io.reactiverse.contextual.logging;
+  exports io.reactiverse.contextual.logging.spi;
+  exports io.reactiverse.contextual.logging.impl to
+    io.reactiverse.contextual.logging.http,
+    io.reactiverse.contextual.logging.jul,
+    io.reactiverse.contextual.logging.log4j,
+    io.reactiverse.contextual.logging.logback,
+    io.reactiverse.contextual.logging.tests;
+
+  uses io.reactiverse.contextual.logging.spi.ContextualDataMetrics;
 
   provides io.vertx.core.spi.VertxServiceProvider with io.reactiverse.contextual.logging.impl.ContextualDataStorage;
 }
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.reactiverse.contextual.logging.tests;
+
+import com.sun.management.ThreadMXBean;
+import io.vertx.core.internal.ContextInternal;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Measures the bytes allocated per invocation of an operation, with {@link ThreadMXBean#getThreadAllocatedBytes(long)}.
+ * <p>
+ * The operation is invoked enough times beforehand for the JIT compiler to optimize it, so that the measure reflects
+ * the steady state of a logging hot path rather than interpreter allocations.
+ */
+public final class AllocationMeter {
+
+  private static final int WARMUP_ITERATIONS = 50_000;
+  private static final int MEASURED_ITERATIONS = 10_000;
+
+  private AllocationMeter() {
+  }
+
+  /**
+   * Measure an operation on the current thread.
+   *
+   * @param operation the operation
+   * @return the number of bytes allocated per invocation
+   */
+  public static long bytesPerOperation(Runnable operation) {
+    ThreadMXBean threadMXBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+    if (!threadMXBean.isThreadAllocatedMemorySupported() || !threadMXBean.isThreadAllocatedMemoryEnabled()) {
+      throw new IllegalStateException("Thread allocated memory measurement is not available");
+    }
+    long threadId = Thread.currentThread().getId();
+    for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+      operation.run();
+    }
+    // What the measurement itself allocates
+    long start = threadMXBean.getThreadAllocatedBytes(threadId);
+    long overhead = threadMXBean.getThreadAllocatedBytes(threadId) - start;
+    start = threadMXBean.getThreadAllocatedBytes(threadId);
+    for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+      operation.run();
+    }
+    long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - start - overhead;
+    return Math.max(0, allocated) / MEASURED_ITERATIONS;
+  }
+
+  /**
+   * Measure an operation while the current thread runs on the {@code context}.
+   *
+   * @param context   the context
+   * @param operation the operation
+   * @return the number of bytes allocated per invocation
+   */
+  public static long bytesPerOperation(ContextInternal context, Runnable operation) {
+    long[] result = {-1};
+    context.dispatch(() -> result[0] = bytesPerOperation(operation));
+    if (result[0] < 0) {
+      throw new IllegalStateException("Measurement failed, see the context exception handler");
+    }
+    return result[0];
+  }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.reactiverse.contextual.logging.tests;
+
+import io.reactiverse.contextual.logging.ContextualData;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.test.core.VertxTestBase;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Compares the heap retained by the contextual data maps of many requests with {@link HashMap}s holding the same entries.
+ */
+public class ContextualDataFootprintTest extends VertxTestBase {
+
+  private static final String[] KEYS = {"requestId", "tenant", "userId", "traceId"};
+  private static final int INSTANCES = 20_000;
+
+  /**
+   * The map and its inline array: 72 bytes with compressed oops, the values being shared with the caller.
+   */
+  private static final long FOOTPRINT_BUDGET = 96;
+
+  private static final Runnable PUT_KEYS = () -> {
+    for (String key : KEYS) {
+      ContextualData.put(key, key);
+    }
+  };
+
+  @Test
+  public void testFootprint() {
+    ContextInternal root = (ContextInternal) vertx.getOrCreateContext();
+    // Each instance is a populated duplicated context, the size of the duplicated context itself is subtracted
+    long duplicate = retainedBytesPerInstance(root::duplicate);
+    long contextualDataMap = retainedBytesPerInstance(() -> {
+      ContextInternal context = root.duplicate();
+      context.dispatch(PUT_KEYS);
+      return context;
+    }) - duplicate;
+    long hashMap = retainedBytesPerInstance(() -> {
+      Map<String, String> map = new HashMap<>();
+      for (String key : KEYS) {
+        map.put(key, key);
+      }
+      return map;
+    });
+    assertTrue("Contextual data map retained " + contextualDataMap + " bytes", contextualDataMap <= FOOTPRINT_BUDGET);
+    assertTrue("Contextual data map retained " + contextualDataMap + " bytes, HashMap " + hashMap + " bytes",
+      contextualDataMap < hashMap);
+  }
+
+  /**
+   * @return the heap freed by releasing the instances, divided by their number
+   */
+  private static long retainedBytesPerInstance(Supplier<Object> factory) {
+    Object[] instances = new Object[INSTANCES];
+    for (int i = 0; i < INSTANCES; i++) {
+      instances[i] = factory.get();
+    }
+    long retained = usedHeap();
+    Arrays.fill(instances, null);
+    long released = usedHeap();
+    return (retained - released) / INSTANCES;
+  }
+
+  private static long usedHeap() {
+    Runtime runtime = Runtime.getRuntime();
+    for (int i = 0; i < 3; i++) {
+      System.gc();
+    }
+    return runtime.totalMemory() - runtime.freeMemory();
+  }
+}
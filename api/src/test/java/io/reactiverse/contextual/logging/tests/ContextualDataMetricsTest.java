@@ -0,0 +1,117 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.reactiverse.contextual.logging.tests;
+
+import io.reactiverse.contextual.logging.ContextualData;
+import io.reactiverse.contextual.logging.impl.StripedContextualDataMetrics;
+import io.reactiverse.contextual.logging.spi.ContextualDataMetrics;
+import io.reactiverse.contextual.logging.spi.ContextualDataMetricsMXBean;
+import io.vertx.core.Vertx;
+import io.vertx.core.internal.ContextInternal;
+import org.junit.Test;
+
+import javax.management.JMX;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+import static org.junit.Assume.assumeTrue;
+
+public class ContextualDataMetricsTest {
+
+  @Test
+  public void testCounters() {
+    StripedContextualDataMetrics metrics = new StripedContextualDataMetrics();
+    metrics.mapCreated();
+    metrics.mapUpdated(1, 24);
+    metrics.mapUpdated(3, 40);
+    metrics.read(true);
+    metrics.read(false);
+    metrics.read(false);
+    metrics.offContextWrite();
+    assertEquals(1, metrics.getMapsCreated());
+    assertEquals(2, metrics.getMapUpdates());
+    assertEquals(3, metrics.getReads());
+    assertEquals(2, metrics.getReadMisses());
+    assertEquals(1, metrics.getOffContextWrites());
+    assertEquals(2.0, metrics.getMeanMapSize(), 0.0);
+    assertEquals(32.0, metrics.getMeanMapBytes(), 0.0);
+    metrics.reset();
+    assertEquals(0, metrics.getMapUpdates());
+    assertEquals(0.0, metrics.getMeanMapSize(), 0.0);
+  }
+
+  @Test
+  public void testMapSizeHistogram() {
+    StripedContextualDataMetrics metrics = new StripedContextualDataMetrics();
+    int[] sizes = {0, 1, 2, 3, 4, 5, 8, 9, 32, 33, 1000};
+    for (int size : sizes) {
+      metrics.mapUpdated(size, 0);
+    }
+    Map<String, Long> histogram = metrics.getMapSizeHistogram();
+    assertArrayEquals(new String[]{"0", "1", "2", "4", "8", "16", "32", "+Inf"}, histogram.keySet().toArray());
+    assertArrayEquals(new Long[]{1L, 1L, 1L, 2L, 2L, 1L, 1L, 2L}, histogram.values().toArray());
+  }
+
+  @Test
+  public void testMXBean() throws Exception {
+    StripedContextualDataMetrics metrics = new StripedContextualDataMetrics();
+    MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    ObjectName name = new ObjectName(ContextualDataMetricsMXBean.OBJECT_NAME + ",test=" + getClass().getSimpleName());
+    server.registerMBean(metrics, name);
+    try {
+      metrics.mapUpdated(2, 24);
+      ContextualDataMetricsMXBean proxy = JMX.newMXBeanProxy(server, name, ContextualDataMetricsMXBean.class);
+      assertEquals(1, proxy.getMapUpdates());
+      assertEquals(Long.valueOf(1), proxy.getMapSizeHistogram().get("2"));
+    } finally {
+      server.unregisterMBean(name);
+    }
+  }
+
+  @Test
+  public void testEnabled() throws Exception {
+    // Metrics are enabled for the whole JVM in the dedicated surefire execution, which runs no other contextual data test
+    assumeTrue(Boolean.getBoolean(ContextualDataMetrics.METRICS_PROPERTY));
+    Vertx vertx = Vertx.vertx();
+    try {
+      ContextInternal context = ((ContextInternal) vertx.getOrCreateContext()).duplicate();
+      context.dispatch(() -> {
+        ContextualData.put("requestId", "foo");
+        ContextualData.put("tenant", "bar");
+        assertEquals("foo", ContextualData.get("requestId"));
+        assertNull(ContextualData.get("user"));
+      });
+      ContextualData.put("requestId", "foo");
+    } finally {
+      vertx.close().await();
+    }
+    // The built-in implementation is registered when the contextual data is first used
+    MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    ContextualDataMetricsMXBean metrics = JMX.newMXBeanProxy(server, new ObjectName(ContextualDataMetricsMXBean.OBJECT_NAME), ContextualDataMetricsMXBean.class);
+    assertEquals(1, metrics.getMapsCreated());
+    assertEquals(2, metrics.getMapUpdates());
+    assertEquals(2, metrics.getReads());
+    assertEquals(1, metrics.getReadMisses());
+    assertEquals(1, metrics.getOffContextWrites());
+    assertEquals(Long.valueOf(1), metrics.getMapSizeHistogram().get("1"));
+    assertEquals(Long.valueOf(1), metrics.getMapSizeHistogram().get("2"));
+    assertEquals(1.5, metrics.getMeanMapSize(), 0.0);
+    assertTrue(metrics.getMeanMapBytes() > 0);
+  }
+}
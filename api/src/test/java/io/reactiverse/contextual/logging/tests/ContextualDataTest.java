@@ -0,0 +1,568 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.reactiverse.contextual.logging.tests;
+
+import io.reactiverse.contextual.logging.ContextualData;
+import io.reactiverse.contextual.logging.ContextualKey;
+import io.reactiverse.contextual.logging.impl.ContextualDataImpl;
+import io.reactiverse.contextual.logging.impl.ContextualDataStorage;
+import io.reactiverse.contextual.logging.impl.ContextualDataView;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.test.core.VertxTestBase;
+import org.junit.Test;
+
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+public class ContextualDataTest extends VertxTestBase {
+
+  private ContextInternal context;
+
+  @Override
+  public void setUp() throws Exception {
+    super.setUp();
+    context = ((ContextInternal) vertx.getOrCreateContext()).duplicate();
+  }
+
+  @Test
+  public void testGetAllSnapshotReusedAcrossLogEvents() {
+    context.runOnContext(v -> {
+      ContextualData.put("requestId", "foo");
+      ContextualData.put("tenant", "bar");
+      Map<String, String> snapshot = ContextualData.getAll();
+      for (int i = 0; i < 50; i++) {
+        // Each log event asks for all the values
+        assertSame(snapshot, ContextualData.getAll());
+      }
+      testComplete();
+    });
+    await();
+  }
+
+  @Test
+  public void testGetAllSnapshotInvalidatedAfterWrite() {
+    context.runOnContext(v -> {
+      ContextualData.put("requestId", "foo");
+      Map<String, String> before = ContextualData.getAll();
+      ContextualData.put("tenant", "bar");
+      Map<String, String> after = ContextualData.getAll();
+      assertNotSame(before, after);
+      Map<String, String> expected = new HashMap<>();
+      expected.put("requestId", "foo");
+      assertEquals(expected, before);
+      expected.put("tenant", "bar");
+      assertEquals(expected, after);
+      assertSame(after, ContextualData.getAll());
+      ContextualData.put("tenant", "baz");
+      assertEquals("baz", ContextualData.getAll().get("tenant"));
+      testComplete();
+    });
+    await();
+  }
+
+  @Test
+  public void testGetAllSnapshotIsImmutable() {
+    context.runOnContext(v -> {
+      ContextualData.put("requestId", "foo");
+      try {
+        ContextualData.getAll().put("tenant", "bar");
+        fail();
+      } catch (UnsupportedOperationException ignore) {
+      }
+      assertNull(ContextualData.get("tenant"));
+      testComplete();
+    });
+    await();
+  }
+
+  @Test
+  public void testReadsDoNotInstallMap() {
+    context.runOnContext(v -> {
+      assertNull(ContextualData.get("requestId"));
+      assertEquals("foobar", ContextualData.getOrDefault("requestId", "foobar"));
+      assertTrue(ContextualData.getAll().isEmpty());
+      assertNull(context.getLocal(ContextualDataStorage.CONTEXTUAL_DATA_KEY));
+      ContextualData.put("requestId", "foo");
+      assertNotNull(context.getLocal(ContextualDataStorage.CONTEXTUAL_DATA_KEY));
+      assertEquals("foo", ContextualData.getOrDefault("requestId", "foobar"));
+      testComplete();
+    });
+    await();
+  }
+
+  @Test
+  public void testContextualKey() {
+    ContextualKey<String> requestId = ContextualKey.register("requestId");
+    ContextualKey<Long> shardId = ContextualKey.register("shardId", Long.class);
+    context.runOnContext(v -> {
+      assertNull(requestId.get());
+      assertEquals("foobar", requestId.getOrDefault("foobar"));
+      requestId.set("foo");
+      shardId.set(42L);
+      assertEquals("foo", requestId.get());
+      assertEquals(Long.valueOf(42), shardId.get());
+      assertEquals("foo", ContextualData.get("requestId"));
+      assertEquals("42", ContextualData.get("shardId"));
+      assertEquals("42", ContextualData.getAll().get("shardId"));
+      ContextualData.put("requestId", "bar");
+      assertEquals("bar", requestId.get());
+      assertEquals("bar", ContextualKey.register("requestId").get());
+      testComplete();
+    });
+    await();
+  }
+
+  @Test
+  public void testContextualKeyOnNonVertxThread() {
+    ContextualKey<String> requestId = ContextualKey.register("requestId");
+    requestId.set("foo");
+    assertNull(requestId.get());
+    assertEquals("foobar", requestId.getOrDefault("foobar"));
+  }
+
+  @Test
+  public void testOffContextWrites() throws Exception {
+    Logger logger = Logger.getLogger(ContextualDataImpl.class.getName());
+    List<String> reports = new CopyOnWriteArrayList<>();
+    Handler handler = new Handler() {
+      @Override
+      public void publish(LogRecord record) {
+        if (record.getMessage().startsWith("Attempt to set contextual data from a non Vert.x thread at ")) {
+          reports.add(record.getMessage());
+        }
+      }
+
+      @Override
+      public void flush() {
+      }
+
+      @Override
+      public void close() {
+      }
+    };
+    Level level = logger.getLevel();
+    logger.setLevel(Level.FINEST);
+    logger.addHandler(handler);
+    try {
+      Runnable writer = new OffContextWriter();
+      writer.run();
+      assertEquals(1, reports.size());
+      assertTrue(reports.get(0), reports.get(0).contains(OffContextWriter.class.getName() + ".run"));
+      // The call site is known already
+      writer.run();
+      assertEquals(1, reports.size());
+      // Writes on a Vert.x context are not recorded
+      context.dispatch(writer);
+      assertNotNull(context.getLocal(ContextualDataStorage.CONTEXTUAL_DATA_KEY));
+      assertEquals(1, reports.size());
+      // The same code loaded by other class loaders is another call site, until the bound of 256 call sites is reached
+      for (int i = 0; i < 300; i++) {
+        newOffContextWriter("writer-" + i).run();
+      }
+      int reported = reports.size();
+      assertTrue("Reported " + reported + " call sites", reported > 1 && reported <= 256);
+      newOffContextWriter("writer-300").run();
+      assertEquals(reported, reports.size());
+    } finally {
+      logger.removeHandler(handler);
+      logger.setLevel(level);
+    }
+  }
+
+  @Test
+  public void testManyKeys() {
+    context.runOnContext(v -> {
+      for (int i = 0; i < 40; i++) {
+        ContextualData.put("key" + i, "foo" + i);
+      }
+      for (int i = 0; i < 40; i++) {
+        ContextualData.put("key" + i, "bar" + i);
+      }
+      for (int i = 0; i < 40; i++) {
+        assertEquals("bar" + i, ContextualData.get("key" + i));
+      }
+      assertNull(ContextualData.get("key40"));
+      assertEquals(40, ContextualData.getAll().size());
+      testComplete();
+    });
+    await();
+  }
+
+  @Test
+  public void testConcurrentAccess() throws Exception {
+    int count = 1000;
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      waitFor(count);
+      for (int i = 0; i < count; i++) {
+        String id = "id" + i;
+        ContextInternal ctx = context.unwrap().duplicate();
+        ctx.runOnContext(v -> {
+          ContextualData.put("requestId", id);
+          vertx.executeBlocking(() -> {
+            assertEquals(id, ContextualData.get("requestId"));
+            ContextualData.put("worker", id);
+            return null;
+          }, false).onComplete(onSuccess(ignore -> {
+            assertEquals(id, ContextualData.get("worker"));
+            ContextualData.put("eventLoop", id);
+            executor.execute(() -> ctx.dispatch(() -> {
+              assertEquals(id, ContextualData.get("eventLoop"));
+              assertEquals(3, ContextualData.getAll().size());
+              complete();
+            }));
+          }));
+        });
+      }
+      await();
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void testInterleavedWrites() throws Exception {
+    int writes = 20;
+    for (int i = 0; i < 500; i++) {
+      ContextInternal ctx = context.unwrap().duplicate();
+      CyclicBarrier barrier = new CyclicBarrier(2);
+      CompletableFuture<Void> eventLoopWrites = new CompletableFuture<>();
+      ctx.runOnContext(v -> {
+        try {
+          barrier.await(10, TimeUnit.SECONDS);
+          for (int j = 0; j < writes; j++) {
+            ContextualData.put("eventLoop" + j, "foo");
+          }
+          eventLoopWrites.complete(null);
+        } catch (Exception e) {
+          eventLoopWrites.completeExceptionally(e);
+        }
+      });
+      // The write of another thread races with the writes of the event-loop
+      barrier.await(10, TimeUnit.SECONDS);
+      ctx.dispatch(() -> ContextualData.put("foreign", "bar"));
+      eventLoopWrites.get(10, TimeUnit.SECONDS);
+      int[] size = new int[1];
+      ctx.dispatch(() -> size[0] = ContextualData.getAll().size());
+      assertEquals(writes + 1, size[0]);
+    }
+  }
+
+  @Test
+  public void testPutAll() {
+    context.runOnContext(v -> {
+      ContextualData.put("requestId", "foo");
+      Map<String, String> values = new HashMap<>();
+      values.put("requestId", "bar");
+      values.put("tenant", "baz");
+      ContextualData.putAll(values);
+      assertEquals(values, ContextualData.getAll());
+      testComplete();
+    });
+    await();
+  }
+
+  @Test
+  public void testRemoveAndClear() {
+    context.runOnContext(v -> {
+      ContextualData.put("requestId", "foo");
+      ContextualData.put("tenant", "bar");
+      ContextualData.remove("requestId");
+      ContextualData.remove("neverRegistered");
+      assertNull(ContextualData.get("requestId"));
+      assertEquals("bar", ContextualData.get("tenant"));
+      ContextualData.clear();
+      assertTrue(ContextualData.getAll().isEmpty());
+      testComplete();
+    });
+    await();
+  }
+
+  @Test
+  public void testWith() {
+    context.runOnContext(v -> {
+      ContextualData.put("requestId", "foo");
+      ContextualData.put("tenant", "bar");
+      Map<String, String> values = new HashMap<>();
+      values.put("requestId", "baz");
+      values.put("userId", "qux");
+      String result = ContextualData.with(values, () -> {
+        assertEquals("baz", ContextualData.get("requestId"));
+        assertEquals("bar", ContextualData.get("tenant"));
+        assertEquals("qux", ContextualData.get("userId"));
+        return "result";
+      });
+      assertEquals("result", result);
+      assertEquals("foo", ContextualData.get("requestId"));
+      assertEquals("bar", ContextualData.get("tenant"));
+      assertNull(ContextualData.get("userId"));
+      testComplete();
+    });
+    await();
+  }
+
+  @Test
+  public void testCallRestoresOnFailure() {
+    context.runOnContext(v -> {
+      ContextualData.put("requestId", "foo");
+      Exception failure = new Exception();
+      try {
+        ContextualData.call(Collections.singletonMap("requestId", "bar"), () -> {
+          assertEquals("bar", ContextualData.get("requestId"));
+          throw failure;
+        });
+        fail();
+      } catch (Exception e) {
+        assertSame(failure, e);
+      }
+      assertEquals("foo", ContextualData.get("requestId"));
+      testComplete();
+    });
+    await();
+  }
+
+  @Test
+  public void testPutLazy() {
+    AtomicInteger invocations = new AtomicInteger();
+    context.runOnContext(v -> {
+      ContextualData.putLazy("principal", () -> "user-" + invocations.incrementAndGet());
+      ContextualData.putLazy("missing", () -> null);
+      assertEquals(0, invocations.get());
+      assertEquals("user-1", ContextualData.get("principal"));
+      assertEquals("user-1", ContextualData.getOrDefault("principal", "foobar"));
+      assertEquals("user-1", ContextualData.getAll().get("principal"));
+      assertEquals(1, invocations.get());
+      assertEquals("foobar", ContextualData.getOrDefault("missing", "foobar"));
+      assertFalse(ContextualData.getAll().containsKey("missing"));
+      testComplete();
+    });
+    await();
+  }
+
+  @Test
+  public void testPutLazyNotInvokedWhenNotRead() {
+    AtomicInteger invocations = new AtomicInteger();
+    context.runOnContext(v -> {
+      ContextualData.putLazy("principal", () -> "user-" + invocations.incrementAndGet());
+      ContextualData.put("principal", "foo");
+      assertEquals("foo", ContextualData.get("principal"));
+      assertEquals(0, invocations.get());
+      testComplete();
+    });
+    await();
+  }
+
+  @Test
+  public void testPrimitiveValues() {
+    context.runOnContext(v -> {
+      ContextualData.putLong("bytes", 42L);
+      ContextualData.putInt("attempt", 3);
+      ContextualData.putBoolean("retry", true);
+      assertEquals(42L, ContextualData.getLong("bytes", -1L));
+      assertEquals(3, ContextualData.getInt("attempt", -1));
+      assertTrue(ContextualData.getBoolean("retry", false));
+      assertEquals("42", ContextualData.get("bytes"));
+      assertEquals("true", ContextualData.get("retry"));
+      assertEquals("3", ContextualData.getAll().get("attempt"));
+      // numbers are widened or narrowed, other types fall back to the default value
+      ContextualData.put("name", "foo");
+      assertEquals(-1L, ContextualData.getLong("name", -1L));
+      assertEquals(42, ContextualData.getInt("bytes", -1));
+      assertFalse(ContextualData.getBoolean("missing", false));
+      testComplete();
+    });
+    await();
+  }
+
+  @Test
+  public void testView() {
+    ContextualKey<String> requestId = ContextualKey.register("requestId");
+    ContextualKey<Object> attempt = ContextualKey.register("attempt", Object.class);
+    assertNull(ContextualDataImpl.view());
+    context.runOnContext(v -> {
+      ContextualDataView empty = ContextualDataImpl.view();
+      assertEquals("none", empty.getOrDefault(requestId, "none"));
+      ContextualData.put("requestId", "foo");
+      ContextualData.putInt("attempt", 2);
+      ContextualDataView view = ContextualDataImpl.view();
+      assertSame(view, ContextualDataImpl.view());
+      assertEquals("foo", view.get(requestId));
+      assertEquals(2, view.get(attempt));
+      ContextualData.put("requestId", "bar");
+      assertNotSame(view, ContextualDataImpl.view());
+      // a view is immutable
+      assertEquals("foo", view.get(requestId));
+      assertEquals("bar", ContextualDataImpl.view().get(requestId));
+      testComplete();
+    });
+    await();
+  }
+
+  @Test
+  public void testDeriveSeveralOwners() {
+    ContextualKey<String> requestId = ContextualKey.register("requestId");
+    Object eventBus = new Object();
+    Object http = new Object();
+    AtomicInteger computations = new AtomicInteger();
+    context.runOnContext(v -> {
+      ContextualData.put("requestId", "foo");
+      ContextualDataView view = ContextualDataImpl.view();
+      // Owners deriving values from the same view alternately must not evict each other
+      for (int i = 0; i < 10; i++) {
+        assertEquals("eventBus:foo", view.derive(eventBus, d -> {
+          computations.incrementAndGet();
+          return "eventBus:" + d.get(requestId);
+        }));
+        assertEquals("http:foo", view.derive(http, d -> {
+          computations.incrementAndGet();
+          return "http:" + d.get(requestId);
+        }));
+      }
+      assertEquals(2, computations.get());
+      testComplete();
+    });
+    await();
+  }
+
+  @Test
+  public void testWrap() throws Exception {
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      CompletableFuture<Runnable> wrapped = new CompletableFuture<>();
+      context.runOnContext(v -> {
+        ContextualData.put("requestId", "foo");
+        wrapped.complete(ContextualData.wrap(() -> {
+          assertEquals("foo", ContextualData.get("requestId"));
+          assertEquals(Collections.singletonMap("requestId", "foo"), ContextualData.getAll());
+          assertEquals("foo", ContextualDataImpl.view().get(ContextualKey.register("requestId")));
+        }));
+        // the captured data is not affected by later writes
+        ContextualData.put("requestId", "bar");
+      });
+      executor.submit(wrapped.get()).get();
+      // the data is only restored for the duration of the task
+      assertNull(executor.submit(() -> ContextualData.get("requestId")).get());
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void testWrapExecutorService() throws Exception {
+    ExecutorService executor = ContextualData.wrap(Executors.newSingleThreadExecutor());
+    try {
+      CompletableFuture<String> result = new CompletableFuture<>();
+      context.runOnContext(v -> {
+        ContextualData.put("requestId", "foo");
+        CompletableFuture
+          .supplyAsync(() -> ContextualData.get("requestId"), executor)
+          .whenComplete((value, err) -> {
+            if (err != null) {
+              result.completeExceptionally(err);
+            } else {
+              result.complete(value);
+            }
+          });
+      });
+      assertEquals("foo", result.get());
+      assertNull(executor.submit(() -> ContextualData.get("requestId")).get());
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void testCapture() {
+    assertNull(ContextualData.getAll());
+    context.runOnContext(v -> {
+      ContextualData.put("requestId", "foo");
+      // capturing twice without writes returns the same token
+      assertSame(ContextualData.capture(), ContextualData.capture());
+      testComplete();
+    });
+    await();
+  }
+
+  @Test
+  public void testEnsureRequestId() {
+    context.runOnContext(v -> {
+      String requestId = ContextualData.ensureRequestId("requestId");
+      assertEquals(26, requestId.length());
+      assertTrue(requestId, requestId.matches("[0-9A-HJKMNP-TV-Z]{26}"));
+      assertEquals(requestId, ContextualData.get("requestId"));
+      assertEquals(requestId, ContextualData.ensureRequestId("requestId"));
+      ContextualData.put("other", "foo");
+      assertEquals("foo", ContextualData.ensureRequestId("other"));
+      // IDs generated by a thread are ordered, even within the same millisecond
+      String previous = requestId;
+      for (int i = 0; i < 1000; i++) {
+        ContextualData.remove("requestId");
+        String next = ContextualData.ensureRequestId("requestId");
+        assertTrue(previous + " < " + next, previous.compareTo(next) < 0);
+        previous = next;
+      }
+      testComplete();
+    });
+    await();
+  }
+
+  private static Runnable newOffContextWriter(String loaderName) throws Exception {
+    String className = OffContextWriter.class.getName();
+    byte[] bytes;
+    try (InputStream in = OffContextWriter.class.getResourceAsStream(className.substring(className.lastIndexOf('.') + 1) + ".class")) {
+      bytes = in.readAllBytes();
+    }
+    Class<?> clazz = new IsolatingClassLoader(loaderName).define(className, bytes);
+    return (Runnable) clazz.getDeclaredConstructor().newInstance();
+  }
+
+  /**
+   * Writes contextual data, the call site of the write is the {@link #run()} method.
+   */
+  public static final class OffContextWriter implements Runnable {
+
+    @Override
+    public void run() {
+      ContextualData.put("requestId", "foo");
+    }
+  }
+
+  private static final class IsolatingClassLoader extends ClassLoader {
+
+    IsolatingClassLoader(String name) {
+      super(name, ContextualDataTest.class.getClassLoader());
+    }
+
+    Class<?> define(String className, byte[] bytes) {
+      return defineClass(className, bytes, 0, bytes.length);
+    }
+  }
+}
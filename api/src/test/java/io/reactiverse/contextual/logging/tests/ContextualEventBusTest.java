@@ -0,0 +1,213 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.reactiverse.contextual.logging.tests;
+
+import io.reactiverse.contextual.logging.ContextualData;
+import io.reactiverse.contextual.logging.ContextualEventBus;
+import io.reactiverse.contextual.logging.ContextualEventBusOptions;
+import io.vertx.core.eventbus.DeliveryOptions;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.test.core.VertxTestBase;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ContextualEventBusTest extends VertxTestBase {
+
+  private ContextInternal context;
+
+  @Override
+  public void setUp() throws Exception {
+    super.setUp();
+    ContextualEventBus.install(vertx, new ContextualEventBusOptions().addKey("requestId").addKey("tenant"));
+    context = ((ContextInternal) vertx.getOrCreateContext()).duplicate();
+  }
+
+  @Test
+  public void testSend() {
+    vertx.eventBus().consumer("address", msg -> {
+      assertEquals(1, msg.headers().getAll(ContextualEventBusOptions.DEFAULT_HEADER_NAME).size());
+      Map<String, String> expected = new HashMap<>();
+      expected.put("requestId", "foo");
+      expected.put("tenant", "bar");
+      assertEquals(expected, ContextualData.getAll());
+      testComplete();
+    });
+    context.runOnContext(v -> {
+      ContextualData.put("requestId", "foo");
+      ContextualData.put("tenant", "bar");
+      ContextualData.put("secret", "baz");
+      vertx.eventBus().send("address", "hello");
+    });
+    await();
+  }
+
+  @Test
+  public void testRequestReply() {
+    vertx.eventBus().consumer("address", msg -> {
+      assertEquals("foo", ContextualData.get("requestId"));
+      ContextualData.put("tenant", "bar");
+      msg.reply("pong");
+    });
+    context.runOnContext(v -> {
+      ContextualData.put("requestId", "foo");
+      vertx.eventBus().request("address", "ping").onComplete(onSuccess(reply -> {
+        assertEquals("pong", reply.body());
+        assertEquals("foo", ContextualData.get("requestId"));
+        assertEquals("bar", ContextualData.get("tenant"));
+        testComplete();
+      }));
+    });
+    await();
+  }
+
+  @Test
+  public void testReplyKeepsRequesterValues() {
+    AtomicInteger resolutions = new AtomicInteger();
+    vertx.eventBus().consumer("address", msg -> {
+      ContextualData.put("requestId", "baz");
+      ContextualData.put("tenant", "qux");
+      msg.reply("pong");
+    });
+    context.runOnContext(v -> {
+      ContextualData.put("requestId", "foo");
+      vertx.eventBus().request("address", "ping").onComplete(onSuccess(reply -> {
+        // Not resolved for the reply
+        assertEquals(0, resolutions.get());
+        assertEquals("bar", ContextualData.get("requestId"));
+        assertEquals(1, resolutions.get());
+        assertEquals("qux", ContextualData.get("tenant"));
+        testComplete();
+      }));
+      // Modified after the request was sent
+      ContextualData.putLazy("requestId", () -> {
+        resolutions.incrementAndGet();
+        return "bar";
+      });
+    });
+    await();
+  }
+
+  @Test
+  public void testTypedValuesAreReceivedAsText() {
+    vertx.eventBus().consumer("address", msg -> {
+      assertEquals("42", ContextualData.get("requestId"));
+      assertEquals(-1L, ContextualData.getLong("requestId", -1L));
+      assertEquals("true", ContextualData.get("tenant"));
+      testComplete();
+    });
+    context.runOnContext(v -> {
+      ContextualData.putLong("requestId", 42L);
+      ContextualData.putBoolean("tenant", true);
+      vertx.eventBus().send("address", "hello");
+    });
+    await();
+  }
+
+  @Test
+  public void testNoContextualData() {
+    vertx.eventBus().consumer("address", msg -> {
+      assertTrue(msg.headers().isEmpty());
+      assertEquals(0, ContextualData.getAll().size());
+      testComplete();
+    });
+    context.runOnContext(v -> {
+      ContextualData.put("secret", "baz");
+      vertx.eventBus().send("address", "hello");
+    });
+    await();
+  }
+
+  @Test
+  public void testEscaping() {
+    String value = "a,b=c%d";
+    vertx.eventBus().consumer("address", msg -> {
+      assertEquals(value, ContextualData.get("requestId"));
+      assertEquals("", ContextualData.get("tenant"));
+      testComplete();
+    });
+    context.runOnContext(v -> {
+      ContextualData.put("requestId", value);
+      ContextualData.put("tenant", "");
+      vertx.eventBus().send("address", "hello");
+    });
+    await();
+  }
+
+  @Test
+  public void testMalformedEscapes() {
+    vertx.eventBus().consumer("address", msg -> {
+      assertEquals("a%zzb%4", ContextualData.get("requestId"));
+      assertEquals("%2,", ContextualData.get("tenant"));
+      testComplete();
+    });
+    DeliveryOptions options = new DeliveryOptions().addHeader(ContextualEventBusOptions.DEFAULT_HEADER_NAME, "requestId=a%zzb%4,tenant=%2%2C");
+    context.runOnContext(v -> vertx.eventBus().send("address", "hello", options));
+    await();
+  }
+
+  @Test
+  public void testMessagesDoNotShareContextualData() {
+    int count = 10;
+    waitFor(count);
+    vertx.eventBus().<Integer>consumer("address", msg -> {
+      assertEquals(String.valueOf(msg.body()), ContextualData.get("requestId"));
+      complete();
+    });
+    for (int i = 0; i < count; i++) {
+      int id = i;
+      ((ContextInternal) vertx.getOrCreateContext()).duplicate().runOnContext(v -> {
+        ContextualData.put("requestId", String.valueOf(id));
+        vertx.eventBus().send("address", id);
+      });
+    }
+    await();
+  }
+
+  @Test
+  public void testClusteredCompactEncoding() {
+    startNodes(2);
+    ContextualEventBusOptions options = new ContextualEventBusOptions()
+      .addKey("requestId")
+      .addKey("tenant")
+      .setCompactEncoding(true);
+    ContextualEventBus.install(vertices[0], options);
+    ContextualEventBus.install(vertices[1], options);
+    vertices[1].eventBus().consumer("address", msg -> {
+      String header = msg.headers().get(ContextualEventBusOptions.DEFAULT_HEADER_NAME);
+      assertTrue(header.length() < "requestId=foo,tenant=bar".length());
+      assertEquals("foo", ContextualData.get("requestId"));
+      assertEquals("bar", ContextualData.get("tenant"));
+      assertNull(ContextualData.get("secret"));
+      msg.reply("pong");
+    }).completion().onComplete(onSuccess(registered -> {
+      ContextInternal sender = ((ContextInternal) vertices[0].getOrCreateContext()).duplicate();
+      sender.runOnContext(v -> {
+        ContextualData.put("requestId", "foo");
+        ContextualData.put("tenant", "bar");
+        ContextualData.put("secret", "baz");
+        vertices[0].eventBus().request("address", "ping").onComplete(onSuccess(reply -> {
+          assertEquals("pong", reply.body());
+          assertEquals("foo", ContextualData.get("requestId"));
+          testComplete();
+        }));
+      });
+    }));
+    await();
+  }
+}
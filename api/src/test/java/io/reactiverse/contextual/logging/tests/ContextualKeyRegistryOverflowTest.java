@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.reactiverse.contextual.logging.tests;
+
+import io.reactiverse.contextual.logging.ContextualData;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.test.core.VertxTestBase;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+/**
+ * Exceeds the bound of the key name registry, which is global to the JVM: this test runs in its own surefire execution,
+ * so that the other tests do not take the {@code equals} fallback of the contextual data map.
+ */
+public class ContextualKeyRegistryOverflowTest extends VertxTestBase {
+
+  @Test
+  public void testDynamicKeyNames() {
+    Logger logger = Logger.getLogger("io.reactiverse.contextual.logging.impl.ContextualKeyRegistry");
+    List<String> warnings = new CopyOnWriteArrayList<>();
+    Handler handler = new Handler() {
+      @Override
+      public void publish(LogRecord record) {
+        warnings.add(record.getMessage());
+      }
+
+      @Override
+      public void flush() {
+      }
+
+      @Override
+      public void close() {
+      }
+    };
+    logger.addHandler(handler);
+    try {
+      // Enough names to exceed the bound of the key registry
+      int count = 2000;
+      ContextInternal context = ((ContextInternal) vertx.getOrCreateContext()).duplicate();
+      ContextInternal small = ((ContextInternal) vertx.getOrCreateContext()).duplicate();
+      context.runOnContext(v -> {
+        for (int i = 0; i < count; i++) {
+          ContextualData.put("attr-" + i, "foo" + i);
+        }
+        // Distinct instances of the names past the bound designate the same entries
+        for (int i = 0; i < count; i++) {
+          ContextualData.put(new String("attr-" + i), "bar" + i);
+        }
+        for (int i = 0; i < count; i++) {
+          assertEquals("bar" + i, ContextualData.get("attr-" + i));
+        }
+        assertEquals(count, ContextualData.getAll().size());
+        small.runOnContext(v2 -> {
+          ContextualData.put("attr-" + (count - 1), "foo");
+          ContextualData.put(new String("attr-" + (count - 1)), "bar");
+          assertEquals(Collections.singletonMap("attr-" + (count - 1), "bar"), ContextualData.getAll());
+          ContextualData.remove(new String("attr-" + (count - 1)));
+          assertTrue(ContextualData.getAll().isEmpty());
+          testComplete();
+        });
+      });
+      await();
+      // Reported once, when the bound is reached
+      assertEquals(1, warnings.size());
+      assertTrue(warnings.get(0), warnings.get(0).startsWith("More than 1024 contextual data key names are used"));
+    } finally {
+      logger.removeHandler(handler);
+    }
+  }
+}
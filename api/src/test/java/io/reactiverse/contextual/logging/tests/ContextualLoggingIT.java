@@ -20,6 +20,7 @@ import io.reactiverse.contextual.logging.ContextualData;
 import io.vertx.core.*;
 import io.vertx.core.http.HttpResponseExpectation;
 import io.vertx.core.http.HttpServer;
+import io.vertx.core.http.PoolOptions;
 import io.vertx.core.internal.logging.Logger;
 import io.vertx.core.internal.logging.LoggerFactory;
 import io.vertx.ext.web.client.HttpRequest;
@@ -30,12 +31,14 @@ import io.vertx.test.core.VertxTestBase;
 import org.junit.Test;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
@@ -56,7 +59,7 @@ public abstract class ContextualLoggingIT extends VertxTestBase {
   public void setUp() throws Exception {
     super.setUp();
     logFile = Paths.get("target", ContextualLoggingIT.class.getSimpleName() + ".log");
-    webClient = WebClient.create(vertx, new WebClientOptions().setDefaultPort(8080));
+    webClient = WebClient.create(vertx, new WebClientOptions().setDefaultPort(8080), new PoolOptions().setHttp1MaxSize(requests()));
     server = vertx.createHttpServer()
       .requestHandler(req -> req.response().end("Hello!"));
     server.listen(8081, "127.0.0.1").toCompletionStage().toCompletableFuture().get();
@@ -74,23 +77,25 @@ public abstract class ContextualLoggingIT extends VertxTestBase {
     super.tearDown();
   }
 
+  /**
+   * @return the number of concurrent requests sent to the test server
+   */
+  protected int requests() {
+    return 10;
+  }
+
   @Test
-  public void testContextualLogging() {
-    vertx.deployVerticle(new TestVerticle()).onComplete(onSuccess(id -> {
-      List<String> ids = IntStream.range(0, 10).mapToObj(i -> UUID.randomUUID().toString()).collect(toList());
-      sendRequests(ids, onSuccess(v -> {
-        try {
-          verifyOutput(ids);
-          testComplete();
-        } catch (Throwable t) {
-          fail(t);
-        }
-      }));
-    }));
-    await();
+  public void testContextualLogging() throws Exception {
+    vertx.deployVerticle(new TestVerticle()).toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+    List<String> ids = IntStream.range(0, requests()).mapToObj(i -> UUID.randomUUID().toString()).collect(toList());
+    sendRequests(ids).toCompletionStage().toCompletableFuture().get(60, TimeUnit.SECONDS);
+    // With async loggers or appenders, the last events may be written after the responses are received
+    int expectedLines = 1 + 4 * ids.size();
+    assertWaitUntil(() -> readOutput().size() >= expectedLines, 10_000);
+    verifyOutput(ids);
   }
 
-  private void sendRequests(List<String> ids, Handler<AsyncResult<Void>> handler) {
+  private Future<Void> sendRequests(List<String> ids) {
     List<Future<?>> futures = ids.stream()
       .map(id -> webClient
         .get("/")
@@ -98,11 +103,19 @@ public abstract class ContextualLoggingIT extends VertxTestBase {
         .send()
         .expecting(HttpResponseExpectation.SC_OK))
       .collect(toList());
-    Future.all(futures).<Void>mapEmpty().onComplete(handler);
+    return Future.all(futures).mapEmpty();
+  }
+
+  private List<String> readOutput() {
+    try {
+      return Files.exists(logFile) ? Files.readAllLines(logFile) : List.of();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
   }
 
-  private void verifyOutput(List<String> ids) throws IOException {
-    List<String> output = Files.readAllLines(logFile);
+  private void verifyOutput(List<String> ids) {
+    List<String> output = readOutput();
     assertEquals("foobar ### Started!", output.get(0));
     Map<String, List<String>> allMessagesById = output.stream()
       .skip(1)
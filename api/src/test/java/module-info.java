@@ -22,5 +22,8 @@ open module io.reactiverse.contextual.logging.tests {
   requires io.vertx.core.tests;
   requires io.vertx.web.client;
   requires io.vertx.web.common;
+  requires java.logging;
+  requires java.management;
+  requires jdk.management;
   exports io.reactiverse.contextual.logging.tests;
 }
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.reactiverse.contextual.logging.benchmarks;
+
+import io.reactiverse.contextual.logging.ContextualData;
+import io.vertx.core.Vertx;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.internal.VertxInternal;
+
+/**
+ * Makes the benchmark thread run on a duplicated Vert.x context, like a request handler would.
+ */
+final class BenchmarkContext {
+
+  static final String EVENT_LOOP = "event-loop";
+  static final String WORKER = "worker";
+  static final String NON_VERTX = "non-vertx";
+
+  private final Vertx vertx;
+  private final ContextInternal context;
+  private final ContextInternal previous;
+
+  private BenchmarkContext(Vertx vertx, ContextInternal context) {
+    this.vertx = vertx;
+    this.context = context;
+    this.previous = context != null ? context.beginDispatch() : null;
+  }
+
+  static BenchmarkContext begin() {
+    return begin(EVENT_LOOP);
+  }
+
+  /**
+   * @param thread the kind of thread the benchmark thread acts as: {@link #EVENT_LOOP}, {@link #WORKER} or {@link #NON_VERTX}
+   */
+  static BenchmarkContext begin(String thread) {
+    VertxInternal vertx = (VertxInternal) Vertx.vertx();
+    ContextInternal context;
+    switch (thread) {
+      case EVENT_LOOP:
+        context = vertx.createEventLoopContext().duplicate();
+        break;
+      case WORKER:
+        context = vertx.createWorkerContext().duplicate();
+        break;
+      case NON_VERTX:
+        context = null;
+        break;
+      default:
+        throw new IllegalArgumentException(thread);
+    }
+    return new BenchmarkContext(vertx, context);
+  }
+
+  /**
+   * Put {@code size} entries in the contextual data map, named {@code key0}, {@code key1}, etc.
+   *
+   * @return the names of the keys
+   */
+  static String[] putKeys(int size) {
+    String[] keys = new String[size];
+    for (int i = 0; i < size; i++) {
+      keys[i] = "key" + i;
+      ContextualData.put(keys[i], "value" + i);
+    }
+    return keys;
+  }
+
+  Vertx vertx() {
+    return vertx;
+  }
+
+  ContextInternal context() {
+    return context;
+  }
+
+  void end() {
+    if (context != null) {
+      context.endDispatch(previous);
+    }
+    vertx.close().await();
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.reactiverse.contextual.logging.benchmarks;
+
+import io.reactiverse.contextual.logging.ContextualData;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the {@link ContextualData} methods, depending on the size of the contextual data map and on the kind of thread.
+ * <p>
+ * On a non Vert.x thread, writes are ignored, so the map is always empty.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContextualDataBenchmark {
+
+  @Param({BenchmarkContext.EVENT_LOOP, BenchmarkContext.WORKER, BenchmarkContext.NON_VERTX})
+  public String thread;
+
+  @Param({"0", "1", "5", "20"})
+  public int size;
+
+  private BenchmarkContext benchmarkContext;
+  private String readKey;
+
+  @Setup
+  public void setup() {
+    benchmarkContext = BenchmarkContext.begin(thread);
+    String[] keys = BenchmarkContext.putKeys(size);
+    readKey = size > 0 ? keys[size - 1] : "requestId";
+  }
+
+  @TearDown
+  public void tearDown() {
+    benchmarkContext.end();
+  }
+
+  @Benchmark
+  public void put() {
+    ContextualData.put("requestId", "5f0c1e2a-9b7d-4c61-8e3f-2a4b6c8d0e1f");
+  }
+
+  @Benchmark
+  public String get() {
+    return ContextualData.get(readKey);
+  }
+
+  @Benchmark
+  public String getOrDefault() {
+    return ContextualData.getOrDefault("missing", "default");
+  }
+
+  @Benchmark
+  public Map<String, String> getAll() {
+    return ContextualData.getAll();
+  }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.reactiverse.contextual.logging.benchmarks;
+
+import io.reactiverse.contextual.logging.ContextualData;
+import io.reactiverse.contextual.logging.ContextualEventBus;
+import io.reactiverse.contextual.logging.ContextualEventBusOptions;
+import io.vertx.core.eventbus.EventBus;
+import io.vertx.core.eventbus.Message;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the per-message overhead of the contextual data propagation over the event bus, with local request/reply exchanges.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventBusBenchmark {
+
+  @Param({"false", "true"})
+  public boolean propagation;
+
+  private BenchmarkContext benchmarkContext;
+  private EventBus eventBus;
+
+  @Setup
+  public void setup() {
+    benchmarkContext = BenchmarkContext.begin();
+    if (propagation) {
+      ContextualEventBus.install(benchmarkContext.vertx(), new ContextualEventBusOptions()
+        .addKey("requestId")
+        .addKey("tenant"));
+    }
+    eventBus = benchmarkContext.vertx().eventBus();
+    eventBus.consumer("benchmark", msg -> msg.reply(msg.body()));
+    ContextualData.put("requestId", "5f0c1e2a-9b7d-4c61-8e3f-2a4b6c8d0e1f");
+    ContextualData.put("tenant", "acme");
+  }
+
+  @TearDown
+  public void tearDown() {
+    benchmarkContext.end();
+  }
+
+  @Benchmark
+  public Message<Object> request() {
+    return eventBus.request("benchmark", "ping").await();
+  }
+}
@@ -0,0 +1,303 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.reactiverse.contextual.logging.benchmarks;
+
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.joran.JoranConfigurator;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.OutputStreamAppender;
+import io.reactiverse.contextual.logging.ContextualData;
+import io.reactiverse.contextual.logging.jul.JULContextualDataFormatter;
+import io.reactiverse.contextual.logging.log4j.impl.VertxContextDataProvider;
+import io.reactiverse.contextual.logging.logback.LogbackConverter;
+import io.vertx.core.*;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.*;
+import io.vertx.core.internal.logging.Logger;
+import io.vertx.core.internal.logging.LoggerFactory;
+import io.vertx.ext.web.client.HttpRequest;
+import io.vertx.ext.web.client.WebClient;
+import io.vertx.ext.web.codec.BodyCodec;
+import org.apache.logging.log4j.core.Appender;
+import org.apache.logging.log4j.core.config.Configuration;
+import org.apache.logging.log4j.core.config.LoggerConfig;
+import org.apache.logging.log4j.core.impl.ThreadContextDataInjector;
+import org.apache.logging.log4j.core.layout.PatternLayout;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.LogManager;
+import java.util.logging.StreamHandler;
+
+/**
+ * Load test of the request flow of {@code ContextualLoggingIT}, end to end over loopback: the HTTP server handler stores
+ * the request ID in the contextual data, then sets a timer, executes a blocking task and sends a Web Client request,
+ * logging at each step.
+ * <p>
+ * The {@code logging} parameter selects the backend. {@link Logging#NONE} is the same flow and the same Logback layout,
+ * without contextual data. Log events are formatted and written to a discarding output stream, so that the results
+ * do not depend on the disk.
+ * <p>
+ * Each benchmark thread is a client sending one request at a time: {@link #throughput()} reports requests/s and
+ * {@link #latency()} the latency distribution, including the p0.50, p0.99 and p0.999 percentiles.
+ * The number of concurrent requests can be changed with the {@code -t} option.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Threads(128)
+@Fork(1)
+public class HttpLoadBenchmark {
+
+  private static final String LOGGER_DELEGATE_FACTORY = "vertx.logger-delegate-factory-class-name";
+  private static final String REQUEST_ID_HEADER = "x-request-id";
+  private static final String HOST = "127.0.0.1";
+  private static final int PORT = 8080;
+  private static final int BACKEND_PORT = 8081;
+  // shorter than in ContextualLoggingIT, otherwise the timer would dominate the latency
+  private static final long TIMER_DELAY = 1;
+
+  private static final String LOGBACK_PATTERN = "%d{HH:mm:ss.SSS} [%thread] %-5level %logger{36} [%vcl{requestId}] - %msg%n";
+  private static final String LOGBACK_BASELINE_PATTERN = "%d{HH:mm:ss.SSS} [%thread] %-5level %logger{36} - %msg%n";
+  private static final String LOG4J2_CONVERTER_PATTERN = "%d{HH:mm:ss.SSS} [%t] %-5level %logger{36} [%vcl{requestId}] - %msg%n";
+  private static final String LOG4J2_PROVIDER_PATTERN = "%d{HH:mm:ss.SSS} [%t] %-5level %logger{36} [%X{requestId}] - %msg%n";
+  private static final String JUL_FORMAT = "%1$tT [%4$s] %3$s [%{requestId}$s] - %5$s%n";
+
+  public enum Logging {
+
+    NONE(false) {
+      @Override
+      void configure() throws Exception {
+        configureLogback(LOGBACK_BASELINE_PATTERN);
+      }
+    },
+    LOGBACK(true) {
+      @Override
+      void configure() throws Exception {
+        configureLogback(LOGBACK_PATTERN);
+      }
+    },
+    LOG4J2_CONVERTER(true) {
+      @Override
+      void configure() {
+        configureLog4j2(LOG4J2_CONVERTER_PATTERN);
+      }
+    },
+    LOG4J2_PROVIDER(true) {
+      @Override
+      void configure() {
+        // must be registered before Log4j2 creates its context data injector
+        ThreadContextDataInjector.contextDataProviders.add(new VertxContextDataProvider());
+        configureLog4j2(LOG4J2_PROVIDER_PATTERN);
+      }
+    },
+    JUL(true) {
+      @Override
+      void configure() throws IOException {
+        configureJul(JUL_FORMAT);
+      }
+    };
+
+    final boolean contextual;
+
+    Logging(boolean contextual) {
+      this.contextual = contextual;
+    }
+
+    /**
+     * Configures the backend, must be invoked before any Vert.x logger is created.
+     */
+    abstract void configure() throws Exception;
+  }
+
+  @State(Scope.Thread)
+  public static class Client {
+
+    private String prefix;
+    private long count;
+
+    @Setup
+    public void setup() {
+      prefix = Thread.currentThread().getName() + '-';
+    }
+
+    String nextRequestId() {
+      return prefix + count++;
+    }
+  }
+
+  @Param
+  public Logging logging;
+
+  private Vertx serverVertx;
+  private Vertx clientVertx;
+  private HttpClientAgent client;
+
+  @Setup
+  public void setup() throws Exception {
+    logging.configure();
+    serverVertx = Vertx.vertx();
+    serverVertx.createHttpServer()
+      .requestHandler(req -> req.response().end("Hello!"))
+      .listen(BACKEND_PORT, HOST)
+      .await();
+    serverVertx.deployVerticle(() -> new FlowVerticle(logging.contextual), new DeploymentOptions().setInstances(VertxOptions.DEFAULT_EVENT_LOOP_POOL_SIZE))
+      .await();
+    clientVertx = Vertx.vertx();
+    client = clientVertx.createHttpClient(new HttpClientOptions().setDefaultHost(HOST).setDefaultPort(PORT), new PoolOptions().setHttp1MaxSize(1024));
+  }
+
+  @TearDown
+  public void tearDown() {
+    clientVertx.close().await();
+    serverVertx.close().await();
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.SECONDS)
+  public Buffer throughput(Client state) {
+    return send(state);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.SampleTime)
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  public Buffer latency(Client state) {
+    return send(state);
+  }
+
+  private Buffer send(Client state) {
+    String requestId = state.nextRequestId();
+    return client.request(HttpMethod.GET, "/")
+      .compose(req -> req.putHeader(REQUEST_ID_HEADER, requestId).send())
+      .expecting(HttpResponseExpectation.SC_OK)
+      .compose(HttpClientResponse::body)
+      .await();
+  }
+
+  private static class FlowVerticle extends VerticleBase {
+
+    private final boolean contextual;
+    private Logger log;
+    private HttpRequest<String> request;
+
+    FlowVerticle(boolean contextual) {
+      this.contextual = contextual;
+    }
+
+    @Override
+    public Future<?> start() {
+      log = LoggerFactory.getLogger(HttpLoadBenchmark.class);
+      request = WebClient.create(vertx).get(BACKEND_PORT, HOST, "/").as(BodyCodec.string());
+
+      return vertx.createHttpServer()
+        .requestHandler(req -> {
+
+          if (contextual) {
+            ContextualData.put("requestId", req.getHeader(REQUEST_ID_HEADER));
+          }
+          log.info("Received HTTP request");
+
+          vertx.setTimer(TIMER_DELAY, l -> {
+
+            log.info("Timer fired");
+
+            vertx.executeBlocking(() -> {
+
+              log.info("Blocking task executed");
+              return null;
+
+            }, false).onComplete(bar -> {
+
+              request.send().onComplete(rar -> {
+
+                log.info("Received Web Client response");
+                req.response().end();
+
+              });
+
+            });
+          });
+
+        }).listen(PORT, HOST);
+    }
+  }
+
+  private static void configureLogback(String pattern) throws Exception {
+    System.setProperty(LOGGER_DELEGATE_FACTORY, "io.vertx.core.logging.SLF4JLogDelegateFactory");
+    LoggerContext loggerContext = (LoggerContext) org.slf4j.LoggerFactory.getILoggerFactory();
+    loggerContext.reset();
+    JoranConfigurator configurator = new JoranConfigurator();
+    configurator.setContext(loggerContext);
+    String configuration = "<configuration>" +
+      "<conversionRule conversionWord=\"vcl\" converterClass=\"" + LogbackConverter.class.getName() + "\"/>" +
+      "</configuration>";
+    configurator.doConfigure(new ByteArrayInputStream(configuration.getBytes(StandardCharsets.UTF_8)));
+    PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+    encoder.setContext(loggerContext);
+    encoder.setPattern(pattern);
+    encoder.start();
+    OutputStreamAppender<ILoggingEvent> appender = new OutputStreamAppender<>();
+    appender.setContext(loggerContext);
+    appender.setName("discard");
+    appender.setEncoder(encoder);
+    appender.setOutputStream(OutputStream.nullOutputStream());
+    appender.start();
+    ch.qos.logback.classic.Logger root = loggerContext.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+    root.setLevel(ch.qos.logback.classic.Level.INFO);
+    root.addAppender(appender);
+  }
+
+  private static void configureLog4j2(String pattern) {
+    System.setProperty(LOGGER_DELEGATE_FACTORY, "io.vertx.core.logging.Log4j2LogDelegateFactory");
+    org.apache.logging.log4j.core.LoggerContext loggerContext = (org.apache.logging.log4j.core.LoggerContext) org.apache.logging.log4j.LogManager.getContext(false);
+    Configuration configuration = loggerContext.getConfiguration();
+    PatternLayout layout = PatternLayout.newBuilder()
+      .withConfiguration(configuration)
+      .withPattern(pattern)
+      .build();
+    Appender appender = org.apache.logging.log4j.core.appender.OutputStreamAppender.newBuilder()
+      .setName("discard")
+      .setLayout(layout)
+      .setTarget(OutputStream.nullOutputStream())
+      .build();
+    appender.start();
+    configuration.addAppender(appender);
+    LoggerConfig root = configuration.getRootLogger();
+    for (String name : root.getAppenders().keySet()) {
+      root.removeAppender(name);
+    }
+    root.addAppender(appender, org.apache.logging.log4j.Level.INFO, null);
+    root.setLevel(org.apache.logging.log4j.Level.INFO);
+    loggerContext.updateLoggers();
+  }
+
+  private static void configureJul(String format) throws IOException {
+    System.setProperty(LOGGER_DELEGATE_FACTORY, "io.vertx.core.logging.JULLogDelegateFactory");
+    String configuration = "handlers=\n" +
+      ".level=INFO\n" +
+      JULContextualDataFormatter.class.getName() + ".format=" + format + "\n";
+    LogManager logManager = LogManager.getLogManager();
+    logManager.readConfiguration(new ByteArrayInputStream(configuration.getBytes(StandardCharsets.ISO_8859_1)));
+    logManager.getLogger("").addHandler(new StreamHandler(OutputStream.nullOutputStream(), new JULContextualDataFormatter()));
+  }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.reactiverse.contextual.logging.benchmarks;
+
+import io.reactiverse.contextual.logging.jul.JULContextualDataFormatter;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.LogRecord;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the JUL formatter, with a {@code %{key}} placeholder for each key of the contextual data map.
+ * <p>
+ * The baseline is the same format without the placeholders.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JulFormatterBenchmark {
+
+  @Param({"0", "1", "5", "20"})
+  public int size;
+
+  private BenchmarkContext benchmarkContext;
+  private JULContextualDataFormatter formatter;
+  private JULContextualDataFormatter baselineFormatter;
+
+  @Setup
+  public void setup() throws IOException {
+    benchmarkContext = BenchmarkContext.begin();
+    StringBuilder format = new StringBuilder("%1$tT [%4$s] %3$s ");
+    String baselineFormat = format + "- %5$s%n";
+    for (String key : BenchmarkContext.putKeys(size)) {
+      format.append("[%{").append(key).append("}$s] ");
+    }
+    format.append("- %5$s%n");
+    formatter = createFormatter(format.toString());
+    baselineFormatter = createFormatter(baselineFormat);
+  }
+
+  private static JULContextualDataFormatter createFormatter(String format) throws IOException {
+    // The public constructor reads the format from the LogManager configuration
+    String property = JULContextualDataFormatter.class.getName() + ".format=" + format.replace("\\", "\\\\");
+    LogManager.getLogManager().readConfiguration(new ByteArrayInputStream(property.getBytes(StandardCharsets.ISO_8859_1)));
+    return new JULContextualDataFormatter();
+  }
+
+  @TearDown
+  public void tearDown() {
+    LogManager.getLogManager().reset();
+    benchmarkContext.end();
+  }
+
+  @Benchmark
+  public String format() {
+    return formatter.format(newRecord());
+  }
+
+  @Benchmark
+  public String baseline() {
+    return baselineFormatter.format(newRecord());
+  }
+
+  private LogRecord newRecord() {
+    LogRecord record = new LogRecord(Level.INFO, "Received HTTP request");
+    record.setLoggerName(JulFormatterBenchmark.class.getName());
+    return record;
+  }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.reactiverse.contextual.logging.benchmarks;
+
+import io.reactiverse.contextual.logging.ContextualData;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares eager and lazy contextual values, when only a fraction of the log statements are enabled.
+ * <p>
+ * Each operation stores an expensive value (a hex-encoded trace id) and then reads it back in {@code renderedPercent}
+ * percent of the operations, as a converter would when a log statement is enabled.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LazyValueBenchmark {
+
+  private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+  @Param({"0", "1", "10", "100"})
+  public int renderedPercent;
+
+  private BenchmarkContext benchmarkContext;
+  private byte[] traceId;
+  private int counter;
+
+  @Setup
+  public void setup() {
+    benchmarkContext = BenchmarkContext.begin();
+    traceId = new byte[16];
+    ThreadLocalRandom.current().nextBytes(traceId);
+  }
+
+  @TearDown
+  public void tearDown() {
+    benchmarkContext.end();
+  }
+
+  @Benchmark
+  public void eager(Blackhole blackhole) {
+    ContextualData.put("traceId", toHex(traceId));
+    log(blackhole);
+  }
+
+  @Benchmark
+  public void lazy(Blackhole blackhole) {
+    byte[] id = traceId;
+    ContextualData.putLazy("traceId", () -> toHex(id));
+    log(blackhole);
+  }
+
+  private void log(Blackhole blackhole) {
+    if (++counter % 100 < renderedPercent) {
+      blackhole.consume(ContextualData.get("traceId"));
+    }
+  }
+
+  private static String toHex(byte[] bytes) {
+    char[] chars = new char[2 * bytes.length];
+    for (int i = 0; i < bytes.length; i++) {
+      chars[2 * i] = HEX[(bytes[i] >> 4) & 0xF];
+      chars[2 * i + 1] = HEX[bytes[i] & 0xF];
+    }
+    return new String(chars);
+  }
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.reactiverse.contextual.logging.benchmarks;
+
+import io.reactiverse.contextual.logging.ContextualKey;
+import io.reactiverse.contextual.logging.impl.ContextualDataImpl;
+import io.reactiverse.contextual.logging.impl.ContextualDataView;
+import io.reactiverse.contextual.logging.log4j.Log4j2Converter;
+import io.reactiverse.contextual.logging.log4j.impl.VertxContextDataInjector;
+import io.reactiverse.contextual.logging.log4j.impl.VertxContextDataProvider;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.config.DefaultConfiguration;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.core.pattern.LogEventPatternConverter;
+import org.apache.logging.log4j.core.pattern.MessagePatternConverter;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.apache.logging.log4j.util.SortedArrayStringMap;
+import org.apache.logging.log4j.util.StringMap;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the Log4j2 integration: the {@code %vcl} pattern converter, with a conversion for each key of the contextual data map,
+ * and the context data provider and injector.
+ * <p>
+ * The converters are created directly rather than by a {@code PatternLayout}, so that the benchmark does not depend on the
+ * plugin cache of the shaded jar. The baseline is the same sequence of converters without the {@code %vcl} conversions.
+ * <p>
+ * {@link #threadLocalFormat()} measures the alternative to a lookup per converter: the converters of an event sharing the view
+ * resolved by the first one through a thread-local holder, as the Logback converters do. It is not used by {@link Log4j2Converter}:
+ * the holder is keyed by the identity of the event, which log4j2 reuses for the events of a thread in garbage-free mode.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Log4j2Benchmark {
+
+  private static final ThreadLocal<Resolution> RESOLUTIONS = ThreadLocal.withInitial(Resolution::new);
+
+  @Param({"0", "1", "4", "5", "8", "20"})
+  public int size;
+
+  private BenchmarkContext benchmarkContext;
+  private LogEventPatternConverter[] converters;
+  private LogEventPatternConverter[] baselineConverters;
+  private String[] keys;
+  private Log4j2Converter[] keyConverters;
+  private ContextualKey<Object>[] contextualKeys;
+  private MessagePatternConverter message;
+  private Log4j2Converter keyValueConverter;
+  private Log4j2Converter allKeysConverter;
+  private VertxContextDataProvider contextDataProvider;
+  private VertxContextDataInjector contextDataInjector;
+  private StringMap reusableContextData;
+  private LogEvent event;
+  private LogEvent otherEvent;
+  private boolean other;
+  private StringBuilder buffer;
+
+  @SuppressWarnings("unchecked")
+  @Setup
+  public void setup() {
+    benchmarkContext = BenchmarkContext.begin();
+    keys = BenchmarkContext.putKeys(size);
+    message = MessagePatternConverter.newInstance(new DefaultConfiguration(), null);
+    converters = new LogEventPatternConverter[keys.length + 1];
+    keyConverters = new Log4j2Converter[keys.length];
+    contextualKeys = new ContextualKey[keys.length];
+    for (int i = 0; i < keys.length; i++) {
+      keyConverters[i] = Log4j2Converter.newInstance(new String[]{keys[i]});
+      converters[i] = keyConverters[i];
+      contextualKeys[i] = ContextualKey.register(keys[i], Object.class);
+    }
+    converters[keys.length] = message;
+    keyValueConverter = Log4j2Converter.newInstance(new String[]{String.join(",", keys) + ','});
+    allKeysConverter = Log4j2Converter.newInstance(null);
+    baselineConverters = new LogEventPatternConverter[]{message};
+    contextDataProvider = new VertxContextDataProvider();
+    contextDataInjector = new VertxContextDataInjector();
+    reusableContextData = new SortedArrayStringMap();
+    event = Log4jLogEvent.newBuilder()
+      .setLoggerName(Log4j2Benchmark.class.getName())
+      .setLevel(Level.INFO)
+      .setMessage(new SimpleMessage("Received HTTP request"))
+      .build();
+    otherEvent = Log4jLogEvent.newBuilder()
+      .setLoggerName(Log4j2Benchmark.class.getName())
+      .setLevel(Level.INFO)
+      .setMessage(new SimpleMessage("Received HTTP request"))
+      .build();
+    buffer = new StringBuilder(256);
+  }
+
+  @TearDown
+  public void tearDown() {
+    benchmarkContext.end();
+  }
+
+  @Benchmark
+  public int format() {
+    return format(converters);
+  }
+
+  @Benchmark
+  public int baseline() {
+    return format(baselineConverters);
+  }
+
+  @Benchmark
+  public int threadLocalFormat() {
+    // Alternate events, so that the first conversion resolves the view as it would for a new event
+    LogEvent e = (other = !other) ? otherEvent : event;
+    StringBuilder sb = buffer;
+    sb.setLength(0);
+    for (ContextualKey<Object> key : contextualKeys) {
+      Resolution r = RESOLUTIONS.get();
+      if (r.event != e) {
+        r.event = e;
+        r.view = ContextualDataImpl.view();
+      }
+      ContextualDataImpl.appendValue(sb, r.view.getOrDefault(key, ""));
+      sb.append(' ');
+    }
+    message.format(e, sb);
+    sb.append(' ');
+    return sb.length();
+  }
+
+  private int format(LogEventPatternConverter[] patternConverters) {
+    StringBuilder sb = buffer;
+    sb.setLength(0);
+    for (LogEventPatternConverter converter : patternConverters) {
+      converter.format(event, sb);
+      sb.append(' ');
+    }
+    return sb.length();
+  }
+
+  /**
+   * {@code key0=%vcl{key0} key1=%vcl{key1} ...}
+   */
+  @Benchmark
+  public int keyValueChain() {
+    StringBuilder sb = buffer;
+    sb.setLength(0);
+    for (int i = 0; i < keys.length; i++) {
+      if (i > 0) {
+        sb.append(' ');
+      }
+      sb.append(keys[i]).append('=');
+      keyConverters[i].format(event, sb);
+    }
+    return sb.length();
+  }
+
+  /**
+   * {@code %vcl{key0,key1,...}}
+   */
+  @Benchmark
+  public int keyValues() {
+    StringBuilder sb = buffer;
+    sb.setLength(0);
+    keyValueConverter.format(event, sb);
+    return sb.length();
+  }
+
+  /**
+   * {@code %vcl}
+   */
+  @Benchmark
+  public int allKeys() {
+    StringBuilder sb = buffer;
+    sb.setLength(0);
+    allKeysConverter.format(event, sb);
+    return sb.length();
+  }
+
+  @Benchmark
+  public StringMap supplyStringMap() {
+    return contextDataProvider.supplyStringMap();
+  }
+
+  /**
+   * What the garbage-free mode of log4j2 does with the provider: copy its map into the reusable map of the event.
+   */
+  @Benchmark
+  public StringMap copyStringMap() {
+    StringMap reusable = reusableContextData;
+    reusable.clear();
+    reusable.putAll(contextDataProvider.supplyStringMap());
+    return reusable;
+  }
+
+  @Benchmark
+  public StringMap injectContextData() {
+    StringMap reusable = reusableContextData;
+    reusable.clear();
+    return contextDataInjector.injectContextData(null, reusable);
+  }
+
+  private static final class Resolution {
+
+    LogEvent event;
+    ContextualDataView view;
+  }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.reactiverse.contextual.logging.benchmarks;
+
+import io.reactiverse.contextual.logging.log4j.impl.VertxContextDataProvider;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.config.DefaultConfiguration;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.core.impl.MutableLogEvent;
+import org.apache.logging.log4j.core.layout.ByteBufferDestination;
+import org.apache.logging.log4j.layout.template.json.JsonTemplateLayout;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.apache.logging.log4j.util.SortedArrayStringMap;
+import org.apache.logging.log4j.util.StringMap;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the JSON template layout with the contextual data written by the {@code vertxContext} resolver,
+ * compared to the {@code mdc} resolver fed by the context data provider.
+ * <p>
+ * The {@code mdc} benchmark includes the copy of the provider data into the reusable map of the event, as log4j2 does
+ * in garbage-free mode. Events are encoded into a destination which discards the bytes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Log4j2JsonBenchmark {
+
+  @Param({"0", "1", "5", "20"})
+  public int size;
+
+  private BenchmarkContext benchmarkContext;
+  private JsonTemplateLayout vertxContextLayout;
+  private JsonTemplateLayout mdcLayout;
+  private Log4jLogEvent event;
+  private MutableLogEvent mdcEvent;
+  private StringMap reusableContextData;
+  private VertxContextDataProvider contextDataProvider;
+  private NullDestination destination;
+
+  @Setup
+  public void setup() {
+    benchmarkContext = BenchmarkContext.begin();
+    BenchmarkContext.putKeys(size);
+    vertxContextLayout = layout("{\"message\":{\"$resolver\":\"message\"},\"ctx\":{\"$resolver\":\"vertxContext\"}}");
+    mdcLayout = layout("{\"message\":{\"$resolver\":\"message\"},\"ctx\":{\"$resolver\":\"mdc\"}}");
+    SimpleMessage message = new SimpleMessage("Received HTTP request");
+    event = Log4jLogEvent.newBuilder()
+      .setLoggerName(Log4j2JsonBenchmark.class.getName())
+      .setLevel(Level.INFO)
+      .setMessage(message)
+      .build();
+    reusableContextData = new SortedArrayStringMap();
+    mdcEvent = new MutableLogEvent();
+    mdcEvent.setLoggerName(Log4j2JsonBenchmark.class.getName());
+    mdcEvent.setLevel(Level.INFO);
+    mdcEvent.setMessage(message);
+    mdcEvent.setContextData(reusableContextData);
+    contextDataProvider = new VertxContextDataProvider();
+    destination = new NullDestination();
+  }
+
+  private static JsonTemplateLayout layout(String eventTemplate) {
+    return JsonTemplateLayout.newBuilder()
+      .setConfiguration(new DefaultConfiguration())
+      .setEventTemplate(eventTemplate)
+      .build();
+  }
+
+  @TearDown
+  public void tearDown() {
+    benchmarkContext.end();
+  }
+
+  @Benchmark
+  public int vertxContext() {
+    vertxContextLayout.encode(event, destination);
+    return destination.buffer.position();
+  }
+
+  @Benchmark
+  public int mdc() {
+    StringMap reusable = reusableContextData;
+    reusable.clear();
+    reusable.putAll(contextDataProvider.supplyStringMap());
+    mdcLayout.encode(mdcEvent, destination);
+    return destination.buffer.position();
+  }
+
+  private static final class NullDestination implements ByteBufferDestination {
+
+    final ByteBuffer buffer = ByteBuffer.allocate(8192);
+
+    @Override
+    public ByteBuffer getByteBuffer() {
+      return buffer;
+    }
+
+    @Override
+    public ByteBuffer drain(ByteBuffer buf) {
+      buf.clear();
+      return buf;
+    }
+
+    @Override
+    public void writeBytes(ByteBuffer data) {
+      data.position(data.limit());
+    }
+
+    @Override
+    public void writeBytes(byte[] data, int offset, int length) {
+    }
+  }
+}
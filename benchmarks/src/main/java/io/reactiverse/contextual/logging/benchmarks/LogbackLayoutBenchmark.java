@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.reactiverse.contextual.logging.benchmarks;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.PatternLayout;
+import ch.qos.logback.classic.joran.JoranConfigurator;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.joran.spi.JoranException;
+import io.reactiverse.contextual.logging.ContextualData;
+import io.reactiverse.contextual.logging.logback.LogbackConverter;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the Logback pattern layout, with a {@code %vcl} conversion for each key of the contextual data map.
+ * <p>
+ * The baseline is the same layout without the {@code %vcl} conversions.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LogbackLayoutBenchmark {
+
+  private static final String CONFIGURATION = "<configuration>" +
+    "<conversionRule conversionWord=\"vcl\" converterClass=\"" + LogbackConverter.class.getName() + "\"/>" +
+    "</configuration>";
+
+  @Param({"0", "1", "5", "20"})
+  public int size;
+
+  private BenchmarkContext benchmarkContext;
+  private LoggerContext loggerContext;
+  private PatternLayout layout;
+  private PatternLayout baselineLayout;
+  private Logger logger;
+
+  @Setup
+  public void setup() throws JoranException {
+    benchmarkContext = BenchmarkContext.begin();
+    loggerContext = new LoggerContext();
+    JoranConfigurator configurator = new JoranConfigurator();
+    configurator.setContext(loggerContext);
+    configurator.doConfigure(new ByteArrayInputStream(CONFIGURATION.getBytes(StandardCharsets.UTF_8)));
+    StringBuilder pattern = new StringBuilder("%d{HH:mm:ss.SSS} [%thread] %-5level %logger{36} ");
+    String baselinePattern = pattern + "- %msg%n";
+    for (String key : BenchmarkContext.putKeys(size)) {
+      pattern.append("[%vcl{").append(key).append("}] ");
+    }
+    pattern.append("- %msg%n");
+    layout = startLayout(pattern.toString());
+    baselineLayout = startLayout(baselinePattern);
+    logger = loggerContext.getLogger(LogbackLayoutBenchmark.class);
+  }
+
+  private PatternLayout startLayout(String pattern) {
+    PatternLayout patternLayout = new PatternLayout();
+    patternLayout.setContext(loggerContext);
+    patternLayout.setPattern(pattern);
+    patternLayout.start();
+    return patternLayout;
+  }
+
+  @TearDown
+  public void tearDown() {
+    layout.stop();
+    baselineLayout.stop();
+    loggerContext.stop();
+    benchmarkContext.end();
+  }
+
+  @Benchmark
+  public String doLayout() {
+    return layout.doLayout(newEvent());
+  }
+
+  @Benchmark
+  public String baseline() {
+    return baselineLayout.doLayout(newEvent());
+  }
+
+  private LoggingEvent newEvent() {
+    return new LoggingEvent(Logger.FQCN, logger, Level.INFO, "Received HTTP request", null, null);
+  }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.reactiverse.contextual.logging.benchmarks;
+
+import io.reactiverse.contextual.logging.impl.RequestIdGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the request ID generator with {@link UUID#randomUUID()}, with a single thread and with as many threads as available processors.
+ * <p>
+ * Other thread counts can be measured with the JMH {@code -t} option.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestIdBenchmark {
+
+  @Benchmark
+  @Threads(1)
+  public String uuid() {
+    return UUID.randomUUID().toString();
+  }
+
+  @Benchmark
+  @Threads(1)
+  public String generator() {
+    return RequestIdGenerator.next();
+  }
+
+  @Benchmark
+  @Threads(Threads.MAX)
+  public String uuidAllThreads() {
+    return UUID.randomUUID().toString();
+  }
+
+  @Benchmark
+  @Threads(Threads.MAX)
+  public String generatorAllThreads() {
+    return RequestIdGenerator.next();
+  }
+}
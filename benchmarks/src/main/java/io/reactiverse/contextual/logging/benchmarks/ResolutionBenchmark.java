@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.reactiverse.contextual.logging.benchmarks;
+
+import io.reactiverse.contextual.logging.ContextualData;
+import io.reactiverse.contextual.logging.ContextualKey;
+import io.reactiverse.contextual.logging.impl.ContextualDataImpl;
+import io.reactiverse.contextual.logging.impl.ContextualDataView;
+import io.vertx.core.internal.ContextInternal;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares reading the contextual data of a log event key by key, as the converters did, with reading all the keys
+ * from a view resolved once for the event.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResolutionBenchmark {
+
+  @Param({"1", "4", "8"})
+  public int keys;
+
+  private BenchmarkContext benchmarkContext;
+  private ContextualKey<Object>[] contextualKeys;
+
+  @SuppressWarnings("unchecked")
+  @Setup
+  public void setup() {
+    benchmarkContext = BenchmarkContext.begin();
+    contextualKeys = new ContextualKey[keys];
+    for (int i = 0; i < keys; i++) {
+      contextualKeys[i] = ContextualKey.register("key" + i, Object.class);
+      ContextualData.put("key" + i, "value" + i);
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    benchmarkContext.end();
+  }
+
+  @Benchmark
+  public void perKey(Blackhole blackhole) {
+    for (ContextualKey<Object> key : contextualKeys) {
+      if (ContextInternal.current() != null) {
+        blackhole.consume(key.getOrDefault(""));
+      }
+    }
+  }
+
+  @Benchmark
+  public void perEvent(Blackhole blackhole) {
+    ContextualDataView view = ContextualDataImpl.view();
+    for (ContextualKey<Object> key : contextualKeys) {
+      blackhole.consume(view.getOrDefault(key, ""));
+    }
+  }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.reactiverse.contextual.logging.benchmarks;
+
+import io.reactiverse.contextual.logging.ContextualData;
+import io.reactiverse.contextual.logging.ContextualEventBusOptions;
+import io.reactiverse.contextual.logging.impl.ContextualDataImpl;
+import io.reactiverse.contextual.logging.impl.ContextualDataView;
+import io.reactiverse.contextual.logging.impl.ContextualEventBusImpl;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the text and compact encodings of the contextual data header sent with event bus messages.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WireEncodingBenchmark {
+
+  @Param({"false", "true"})
+  public boolean compact;
+
+  private BenchmarkContext benchmarkContext;
+  private ContextualEventBusImpl codec;
+  private ContextualDataView view;
+  private String encoded;
+
+  @Setup
+  public void setup() {
+    benchmarkContext = BenchmarkContext.begin();
+    codec = new ContextualEventBusImpl(new ContextualEventBusOptions()
+      .addKey("requestId")
+      .addKey("tenant")
+      .addKey("user")
+      .addKey("route")
+      .setCompactEncoding(compact));
+    ContextualData.put("requestId", "5f0c1e2a-9b7d-4c61-8e3f-2a4b6c8d0e1f");
+    ContextualData.put("tenant", "acme");
+    ContextualData.put("user", "jdoe");
+    ContextualData.put("route", "/orders/:id");
+    view = ContextualDataImpl.view();
+    encoded = codec.encode(view);
+    System.out.printf("%n%s encoding: %d bytes%n", compact ? "compact" : "text", encoded.getBytes(StandardCharsets.UTF_8).length);
+  }
+
+  @TearDown
+  public void tearDown() {
+    benchmarkContext.end();
+  }
+
+  @Benchmark
+  public String encode() {
+    return codec.encode(view);
+  }
+
+  @Benchmark
+  public ContextualEventBusImpl.Decoded decode() {
+    return codec.decode(encoded);
+  }
+
+  @Benchmark
+  public void decodeAndRead(Blackhole blackhole) {
+    ContextualEventBusImpl.Decoded decoded = codec.decode(encoded);
+    for (int i = 0; i < decoded.size(); i++) {
+      blackhole.consume(decoded.value(i));
+    }
+  }
+}
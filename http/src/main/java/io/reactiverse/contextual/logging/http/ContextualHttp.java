@@ -0,0 +1,83 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.reactiverse.contextual.logging.http;
+
+import io.reactiverse.contextual.logging.http.impl.ContextualHttpImpl;
+import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.ext.web.client.WebClient;
+
+/**
+ * Propagates contextual data over HTTP.
+ * <p>
+ * On the server side, the configured keys are read from the headers of the received requests and saved in the contextual data map before the request handler is invoked.
+ * On the client side, they are written to the headers of the requests sent.
+ * <p>
+ * Keys can be propagated in dedicated headers (e.g. {@code x-request-id}) or as entries of the <a href="https://www.w3.org/TR/baggage/">W3C baggage</a> header.
+ */
+public interface ContextualHttp {
+
+  /**
+   * Create an instance for the given {@code options}.
+   *
+   * @param options the propagation options
+   * @return the instance
+   */
+  static ContextualHttp create(ContextualHttpOptions options) {
+    return new ContextualHttpImpl(options);
+  }
+
+  /**
+   * Wrap an HTTP server request handler, so that the contextual data is populated from the request headers before the {@code handler} is invoked.
+   *
+   * @param handler the request handler
+   * @return the wrapped handler
+   */
+  Handler<HttpServerRequest> handler(Handler<HttpServerRequest> handler);
+
+  /**
+   * Install the interceptor writing the contextual data to the headers of the requests sent by the {@code webClient}.
+   * <p>
+   * The contextual data is read when the request is sent, on the context of the caller.
+   * Headers already set on the request are not overwritten, and baggage entries are appended to an existing {@code baggage} header.
+   * <p>
+   * The Web Client has no public interceptor API: this method relies on its internal interceptors, and is supported with
+   * the Vert.x 5.1 line of {@code vertx-web-client} only. With another version, use {@link #inject(MultiMap)}.
+   *
+   * @param webClient the Web Client
+   * @throws IllegalArgumentException if the {@code webClient} does not support internal interceptors
+   */
+  void install(WebClient webClient);
+
+  /**
+   * Save the configured keys found in the {@code headers} in the contextual data map.
+   * <p>
+   * Useful with clients or servers not covered by {@link #handler(Handler)} and {@link #install(WebClient)}.
+   *
+   * @param headers the received headers
+   */
+  void extract(MultiMap headers);
+
+  /**
+   * Write the configured keys of the contextual data map to the {@code headers}.
+   * <p>
+   * Useful with clients not covered by {@link #install(WebClient)}, e.g. with {@code HttpClient} request options headers.
+   *
+   * @param headers the headers to send
+   */
+  void inject(MultiMap headers);
+}
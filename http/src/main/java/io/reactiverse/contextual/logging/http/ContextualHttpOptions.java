@@ -0,0 +1,117 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.reactiverse.contextual.logging.http;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Options of the contextual data propagation over HTTP, see {@link ContextualHttp}.
+ */
+public class ContextualHttpOptions {
+
+  /**
+   * The name of the W3C baggage header = {@code baggage}
+   */
+  public static final String BAGGAGE_HEADER_NAME = "baggage";
+
+  private Map<String, String> headers;
+  private Set<String> baggageKeys;
+
+  /**
+   * Default constructor.
+   */
+  public ContextualHttpOptions() {
+    headers = new LinkedHashMap<>();
+    baggageKeys = new LinkedHashSet<>();
+  }
+
+  /**
+   * Copy constructor.
+   *
+   * @param other the options to copy
+   */
+  public ContextualHttpOptions(ContextualHttpOptions other) {
+    headers = new LinkedHashMap<>(other.headers);
+    baggageKeys = new LinkedHashSet<>(other.baggageKeys);
+  }
+
+  /**
+   * @return the keys of the contextual data propagated in dedicated headers, indexed by header name
+   */
+  public Map<String, String> getHeaders() {
+    return Collections.unmodifiableMap(headers);
+  }
+
+  /**
+   * Set the keys of the contextual data propagated in dedicated headers, indexed by header name.
+   *
+   * @param headers the keys, indexed by header name
+   * @return a reference to this, so the API can be used fluently
+   */
+  public ContextualHttpOptions setHeaders(Map<String, String> headers) {
+    this.headers = new LinkedHashMap<>(headers);
+    return this;
+  }
+
+  /**
+   * Add a key of the contextual data propagated in a dedicated header, e.g. {@code x-request-id}.
+   *
+   * @param headerName the header name
+   * @param key        the key
+   * @return a reference to this, so the API can be used fluently
+   * @see #setHeaders(Map)
+   */
+  public ContextualHttpOptions addHeader(String headerName, String key) {
+    headers.put(Objects.requireNonNull(headerName), Objects.requireNonNull(key));
+    return this;
+  }
+
+  /**
+   * @return the keys of the contextual data propagated in the W3C {@code baggage} header
+   */
+  public Set<String> getBaggageKeys() {
+    return Collections.unmodifiableSet(baggageKeys);
+  }
+
+  /**
+   * Set the keys of the contextual data propagated in the W3C {@code baggage} header.
+   * Other baggage entries are ignored.
+   *
+   * @param baggageKeys the keys
+   * @return a reference to this, so the API can be used fluently
+   */
+  public ContextualHttpOptions setBaggageKeys(Set<String> baggageKeys) {
+    this.baggageKeys = new LinkedHashSet<>(baggageKeys);
+    return this;
+  }
+
+  /**
+   * Add a key of the contextual data propagated in the W3C {@code baggage} header.
+   *
+   * @param key the key
+   * @return a reference to this, so the API can be used fluently
+   * @see #setBaggageKeys(Set)
+   */
+  public ContextualHttpOptions addBaggageKey(String key) {
+    baggageKeys.add(Objects.requireNonNull(key));
+    return this;
+  }
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.reactiverse.contextual.logging.http.impl;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Parser and serializer of the <a href="https://www.w3.org/TR/baggage/">W3C baggage</a> header.
+ * <p>
+ * The header is scanned in place: keys are matched against the allowlist without being extracted,
+ * and values are only copied (or percent-decoded) when their key is allowlisted.
+ * Entry properties are skipped.
+ */
+public final class Baggage {
+
+  private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+  private Baggage() {
+    // Utility
+  }
+
+  /**
+   * Parse a baggage header.
+   *
+   * @param header the header value
+   * @param keys   the allowlisted keys
+   * @param values where the value of {@code keys[i]} is stored, at {@code offset + i}, unless a value is already present
+   * @param offset the offset of the values in the {@code values} array
+   * @return the number of values stored
+   */
+  public static int parse(String header, String[] keys, Object[] values, int offset) {
+    int count = 0;
+    int length = header.length();
+    int pos = 0;
+    while (pos < length) {
+      int end = indexOf(header, ',', pos, length);
+      int eq = indexOf(header, '=', pos, end);
+      if (eq < end) {
+        int keyStart = skipOws(header, pos, eq);
+        int keyEnd = trimOws(header, keyStart, eq);
+        int idx = indexOf(keys, header, keyStart, keyEnd - keyStart);
+        if (idx >= 0 && values[offset + idx] == null) {
+          int valueEnd = indexOf(header, ';', eq + 1, end);
+          int valueStart = skipOws(header, eq + 1, valueEnd);
+          valueEnd = trimOws(header, valueStart, valueEnd);
+          values[offset + idx] = decode(header, valueStart, valueEnd);
+          count++;
+        }
+      }
+      pos = end + 1;
+    }
+    return count;
+  }
+
+  /**
+   * Append a {@code key=value} baggage entry, percent-encoding the value.
+   *
+   * @param sb    the builder
+   * @param key   the key, a valid HTTP token
+   * @param value the value
+   */
+  public static void append(StringBuilder sb, String key, String value) {
+    sb.append(key).append('=');
+    int length = value.length();
+    int safe = 0;
+    while (safe < length && isValueChar(value.charAt(safe))) {
+      safe++;
+    }
+    if (safe == length) {
+      sb.append(value);
+      return;
+    }
+    sb.append(value, 0, safe);
+    for (int i = safe; i < length; i++) {
+      char c = value.charAt(i);
+      if (isValueChar(c)) {
+        sb.append(c);
+      } else if (c < 0x80) {
+        appendEscaped(sb, c);
+      } else if (c < 0x800) {
+        appendEscaped(sb, 0xC0 | (c >> 6));
+        appendEscaped(sb, 0x80 | (c & 0x3F));
+      } else if (!Character.isSurrogate(c)) {
+        appendEscaped(sb, 0xE0 | (c >> 12));
+        appendEscaped(sb, 0x80 | ((c >> 6) & 0x3F));
+        appendEscaped(sb, 0x80 | (c & 0x3F));
+      } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+        int cp = Character.toCodePoint(c, value.charAt(++i));
+        appendEscaped(sb, 0xF0 | (cp >> 18));
+        appendEscaped(sb, 0x80 | ((cp >> 12) & 0x3F));
+        appendEscaped(sb, 0x80 | ((cp >> 6) & 0x3F));
+        appendEscaped(sb, 0x80 | (cp & 0x3F));
+      } else {
+        // Lone surrogate, replaced like String.getBytes does
+        appendEscaped(sb, '?');
+      }
+    }
+  }
+
+  /**
+   * @return whether the {@code key} can be written as is in a baggage header
+   */
+  public static boolean isKey(String key) {
+    if (key.isEmpty()) {
+      return false;
+    }
+    for (int i = 0; i < key.length(); i++) {
+      char c = key.charAt(i);
+      if (c <= 0x20 || c >= 0x7F || "\"(),/:;<=>?@[\\]{}".indexOf(c) >= 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static String decode(String header, int start, int end) {
+    int pct = indexOf(header, '%', start, end);
+    if (pct == end) {
+      return header.substring(start, end);
+    }
+    byte[] bytes = new byte[end - start];
+    int length = 0;
+    for (int i = start; i < end; i++) {
+      char c = header.charAt(i);
+      int hi, lo;
+      if (c == '%' && i + 2 < end && (hi = Character.digit(header.charAt(i + 1), 16)) >= 0 && (lo = Character.digit(header.charAt(i + 2), 16)) >= 0) {
+        bytes[length++] = (byte) ((hi << 4) | lo);
+        i += 2;
+      } else if (c < 0x80) {
+        bytes[length++] = (byte) c;
+      } else {
+        // Not a valid baggage value
+        return header.substring(start, end);
+      }
+    }
+    return new String(bytes, 0, length, StandardCharsets.UTF_8);
+  }
+
+  private static void appendEscaped(StringBuilder sb, int b) {
+    sb.append('%').append(HEX[(b >> 4) & 0xF]).append(HEX[b & 0xF]);
+  }
+
+  private static boolean isValueChar(char c) {
+    // baggage-octet, minus the percent sign
+    return c >= 0x21 && c <= 0x7E && c != '"' && c != ',' && c != ';' && c != '\\' && c != '%';
+  }
+
+  private static int indexOf(String s, char c, int from, int to) {
+    for (int i = from; i < to; i++) {
+      if (s.charAt(i) == c) {
+        return i;
+      }
+    }
+    return to;
+  }
+
+  private static int indexOf(String[] keys, String header, int start, int length) {
+    for (int i = 0; i < keys.length; i++) {
+      String key = keys[i];
+      if (key.length() == length && header.regionMatches(start, key, 0, length)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private static int skipOws(String s, int from, int to) {
+    while (from < to && isOws(s.charAt(from))) {
+      from++;
+    }
+    return from;
+  }
+
+  private static int trimOws(String s, int from, int to) {
+    while (to > from && isOws(s.charAt(to - 1))) {
+      to--;
+    }
+    return to;
+  }
+
+  private static boolean isOws(char c) {
+    return c == ' ' || c == '\t';
+  }
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.reactiverse.contextual.logging.http.impl;
+
+import io.reactiverse.contextual.logging.ContextualKey;
+import io.reactiverse.contextual.logging.http.ContextualHttp;
+import io.reactiverse.contextual.logging.http.ContextualHttpOptions;
+import io.reactiverse.contextual.logging.impl.ContextualDataImpl;
+import io.reactiverse.contextual.logging.impl.ContextualDataView;
+import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.ext.web.client.WebClient;
+import io.vertx.ext.web.client.impl.HttpContext;
+import io.vertx.ext.web.client.impl.WebClientInternal;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+import static io.reactiverse.contextual.logging.http.ContextualHttpOptions.BAGGAGE_HEADER_NAME;
+
+/**
+ * Implementation of {@link ContextualHttp}.
+ * <ul>
+ *   <li>received headers are saved with a single update of the contextual data map</li>
+ *   <li>the headers to send are derived once from an immutable {@link ContextualDataView}, and reused for all the requests sent with this view</li>
+ * </ul>
+ */
+public final class ContextualHttpImpl implements ContextualHttp {
+
+  private static final String HEADERS_ATTRIBUTE = ContextualHttpImpl.class.getName();
+
+  private final String[] headerNames;
+  private final ContextualKey<?>[] headerKeys;
+  private final ContextualKey<?>[] baggageKeys;
+  private final String[] baggageNames;
+  private final String[] names;
+  private final Function<ContextualDataView, String[]> encoder = this::encode;
+
+  public ContextualHttpImpl(ContextualHttpOptions options) {
+    Map<String, String> headers = options.getHeaders();
+    headerNames = new String[headers.size()];
+    headerKeys = new ContextualKey<?>[headers.size()];
+    int i = 0;
+    for (Map.Entry<String, String> entry : headers.entrySet()) {
+      headerNames[i] = entry.getKey();
+      headerKeys[i] = ContextualKey.register(entry.getValue());
+      i++;
+    }
+    baggageKeys = options.getBaggageKeys().stream().map(key -> {
+      if (!Baggage.isKey(key)) {
+        throw new IllegalArgumentException("Invalid baggage key: " + key);
+      }
+      return ContextualKey.register(key);
+    }).toArray(ContextualKey<?>[]::new);
+    baggageNames = new String[baggageKeys.length];
+    names = new String[headerKeys.length + baggageKeys.length];
+    for (i = 0; i < headerKeys.length; i++) {
+      names[i] = headerKeys[i].name();
+    }
+    for (i = 0; i < baggageKeys.length; i++) {
+      baggageNames[i] = baggageKeys[i].name();
+      names[headerKeys.length + i] = baggageNames[i];
+    }
+  }
+
+  @Override
+  public Handler<HttpServerRequest> handler(Handler<HttpServerRequest> handler) {
+    Objects.requireNonNull(handler);
+    return request -> {
+      extract(request.headers());
+      handler.handle(request);
+    };
+  }
+
+  @Override
+  public void install(WebClient webClient) {
+    Objects.requireNonNull(webClient);
+    if (!(webClient instanceof WebClientInternal)) {
+      throw new IllegalArgumentException("Unsupported Web Client implementation: " + webClient.getClass().getName());
+    }
+    ((WebClientInternal) webClient).addInterceptor(this::intercept);
+  }
+
+  /**
+   * Interceptor of the internal {@link HttpContext} API, see {@link ContextualHttp#install(WebClient)} for the supported versions.
+   */
+  private void intercept(HttpContext<?> ctx) {
+    switch (ctx.phase()) {
+      case PREPARE_REQUEST:
+        // Invoked on the caller thread
+        String[] values = current();
+        if (values != null) {
+          ctx.set(HEADERS_ATTRIBUTE, values);
+        }
+        break;
+      case SEND_REQUEST:
+        String[] prepared = ctx.get(HEADERS_ATTRIBUTE);
+        if (prepared != null) {
+          write(ctx.clientRequest().headers(), prepared);
+        }
+        break;
+      default:
+        break;
+    }
+    ctx.next();
+  }
+
+  @Override
+  public void extract(MultiMap headers) {
+    if (names.length == 0 || headers.isEmpty()) {
+      return;
+    }
+    Object[] values = null;
+    int count = 0;
+    for (int i = 0; i < headerNames.length; i++) {
+      String value = headers.get(headerNames[i]);
+      if (value != null) {
+        if (values == null) {
+          values = new Object[names.length];
+        }
+        values[i] = value;
+        count++;
+      }
+    }
+    if (baggageNames.length > 0) {
+      String baggage = headers.get(BAGGAGE_HEADER_NAME);
+      if (baggage != null) {
+        if (values == null) {
+          values = new Object[names.length];
+        }
+        count += Baggage.parse(baggage, baggageNames, values, headerNames.length);
+      }
+    }
+    if (count == names.length) {
+      ContextualDataImpl.putAll(names, values);
+    } else if (count > 0) {
+      String[] presentNames = new String[count];
+      Object[] presentValues = new Object[count];
+      for (int i = 0, j = 0; j < count; i++) {
+        if (values[i] != null) {
+          presentNames[j] = names[i];
+          presentValues[j++] = values[i];
+        }
+      }
+      ContextualDataImpl.putAll(presentNames, presentValues);
+    }
+  }
+
+  @Override
+  public void inject(MultiMap headers) {
+    String[] values = current();
+    if (values != null) {
+      write(headers, values);
+    }
+  }
+
+  private String[] current() {
+    ContextualDataView view = ContextualDataImpl.view();
+    return view != null && !view.isEmpty() ? view.derive(this, encoder) : null;
+  }
+
+  /**
+   * @return the dedicated header values, followed by the baggage header value, or {@code null} if the view has none of the keys
+   */
+  private String[] encode(ContextualDataView view) {
+    String[] values = null;
+    for (int i = 0; i < headerKeys.length; i++) {
+      Object value = view.get(headerKeys[i]);
+      if (value != null) {
+        if (values == null) {
+          values = new String[headerKeys.length + 1];
+        }
+        values[i] = value.toString();
+      }
+    }
+    StringBuilder sb = null;
+    for (ContextualKey<?> key : baggageKeys) {
+      Object value = view.get(key);
+      if (value != null) {
+        if (sb == null) {
+          sb = new StringBuilder();
+        } else {
+          sb.append(',');
+        }
+        Baggage.append(sb, key.name(), value.toString());
+      }
+    }
+    if (sb != null) {
+      if (values == null) {
+        values = new String[headerKeys.length + 1];
+      }
+      values[headerKeys.length] = sb.toString();
+    }
+    return values;
+  }
+
+  private void write(MultiMap headers, String[] values) {
+    for (int i = 0; i < headerNames.length; i++) {
+      if (values[i] != null && !headers.contains(headerNames[i])) {
+        headers.set(headerNames[i], values[i]);
+      }
+    }
+    String baggage = values[headerNames.length];
+    if (baggage != null) {
+      String existing = headers.get(BAGGAGE_HEADER_NAME);
+      headers.set(BAGGAGE_HEADER_NAME, existing == null ? baggage : existing + ',' + baggage);
+    }
+  }
+}
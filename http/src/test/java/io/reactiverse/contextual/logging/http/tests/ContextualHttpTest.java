@@ -0,0 +1,174 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.reactiverse.contextual.logging.http.tests;
+
+import io.reactiverse.contextual.logging.ContextualData;
+import io.reactiverse.contextual.logging.http.ContextualHttp;
+import io.reactiverse.contextual.logging.http.ContextualHttpOptions;
+import io.reactiverse.contextual.logging.http.impl.Baggage;
+import io.vertx.core.Handler;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.ext.web.client.WebClient;
+import io.vertx.test.core.VertxTestBase;
+import org.junit.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+
+import static io.reactiverse.contextual.logging.http.ContextualHttpOptions.BAGGAGE_HEADER_NAME;
+
+public class ContextualHttpTest extends VertxTestBase {
+
+  private ContextualHttp contextualHttp;
+  private WebClient webClient;
+  private ContextInternal context;
+
+  @Override
+  public void setUp() throws Exception {
+    super.setUp();
+    contextualHttp = ContextualHttp.create(new ContextualHttpOptions()
+      .addHeader("x-request-id", "requestId")
+      .addBaggageKey("userId")
+      .addBaggageKey("tenant"));
+    webClient = WebClient.create(vertx);
+    contextualHttp.install(webClient);
+    context = ((ContextInternal) vertx.getOrCreateContext()).duplicate();
+  }
+
+  private void startServer(Handler<HttpServerRequest> handler) {
+    vertx.createHttpServer()
+      .requestHandler(contextualHttp.handler(handler))
+      .listen(8080)
+      .await();
+  }
+
+  @Test
+  public void testPropagation() {
+    startServer(req -> {
+      assertEquals("foo", req.getHeader("x-request-id"));
+      assertEquals("userId=jdoe,tenant=acme", req.getHeader(BAGGAGE_HEADER_NAME));
+      Map<String, String> expected = new HashMap<>();
+      expected.put("requestId", "foo");
+      expected.put("userId", "jdoe");
+      expected.put("tenant", "acme");
+      assertEquals(expected, ContextualData.getAll());
+      req.response().end();
+    });
+    context.runOnContext(v -> {
+      ContextualData.put("requestId", "foo");
+      ContextualData.put("userId", "jdoe");
+      ContextualData.put("tenant", "acme");
+      ContextualData.put("secret", "baz");
+      webClient.get(8080, "localhost", "/").send().onComplete(onSuccess(resp -> {
+        assertEquals(200, resp.statusCode());
+        testComplete();
+      }));
+    });
+    await();
+  }
+
+  @Test
+  public void testNoContextualData() {
+    startServer(req -> {
+      assertNull(req.getHeader("x-request-id"));
+      assertNull(req.getHeader(BAGGAGE_HEADER_NAME));
+      assertEquals(0, ContextualData.getAll().size());
+      req.response().end();
+    });
+    context.runOnContext(v -> {
+      ContextualData.put("secret", "baz");
+      webClient.get(8080, "localhost", "/").send().onComplete(onSuccess(resp -> testComplete()));
+    });
+    await();
+  }
+
+  @Test
+  public void testRequestHeadersNotOverwritten() {
+    startServer(req -> {
+      assertEquals("bar", req.getHeader("x-request-id"));
+      assertEquals("other=value,userId=jdoe", req.getHeader(BAGGAGE_HEADER_NAME));
+      assertEquals("bar", ContextualData.get("requestId"));
+      assertEquals("jdoe", ContextualData.get("userId"));
+      req.response().end();
+    });
+    context.runOnContext(v -> {
+      ContextualData.put("requestId", "foo");
+      ContextualData.put("userId", "jdoe");
+      webClient.get(8080, "localhost", "/")
+        .putHeader("x-request-id", "bar")
+        .putHeader(BAGGAGE_HEADER_NAME, "other=value")
+        .send()
+        .onComplete(onSuccess(resp -> testComplete()));
+    });
+    await();
+  }
+
+  @Test
+  public void testBaggageEncoding() {
+    String value = "a b,c;d=e%f\"g\\h\u00e9\u20ac\ud83d\ude00";
+    startServer(req -> {
+      String baggage = req.getHeader(BAGGAGE_HEADER_NAME);
+      for (int i = 0; i < baggage.length(); i++) {
+        char c = baggage.charAt(i);
+        assertTrue(baggage, c > 0x20 && c < 0x7F && c != '"' && c != '\\' && c != ';');
+      }
+      assertEquals(value, ContextualData.get("userId"));
+      assertEquals("", ContextualData.get("tenant"));
+      req.response().end();
+    });
+    context.runOnContext(v -> {
+      ContextualData.put("userId", value);
+      ContextualData.put("tenant", "");
+      webClient.get(8080, "localhost", "/").send().onComplete(onSuccess(resp -> testComplete()));
+    });
+    await();
+  }
+
+  @Test
+  public void testBaggageParsing() {
+    String[] keys = {"userId", "tenant", "missing"};
+    Object[] values = new Object[4];
+    int count = Baggage.parse(" userId = j%20doe ;prop=1;flag , other=x,tenant=acme,userId=dup", keys, values, 1);
+    assertEquals(2, count);
+    assertNull(values[0]);
+    assertEquals("j doe", values[1]);
+    assertEquals("acme", values[2]);
+    assertNull(values[3]);
+    assertEquals(0, Baggage.parse("", keys, new Object[3], 0));
+    assertEquals(0, Baggage.parse(",,userId,=,tenant;x=y", keys, new Object[3], 0));
+  }
+
+  @Test
+  public void testInvalidBaggageKey() {
+    try {
+      ContextualHttp.create(new ContextualHttpOptions().addBaggageKey("user id"));
+      fail();
+    } catch (IllegalArgumentException expected) {
+    }
+  }
+
+  @Test
+  public void testUnsupportedWebClient() {
+    WebClient wrapper = (WebClient) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{WebClient.class}, (proxy, method, args) -> method.invoke(webClient, args));
+    try {
+      contextualHttp.install(wrapper);
+      fail();
+    } catch (IllegalArgumentException expected) {
+    }
+  }
+}
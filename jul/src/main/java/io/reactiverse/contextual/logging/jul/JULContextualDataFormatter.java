@@ -15,8 +15,9 @@
  */
 package io.reactiverse.contextual.logging.jul;
 
-import io.reactiverse.contextual.logging.ContextualData;
-import io.vertx.core.internal.ContextInternal;
+import io.reactiverse.contextual.logging.ContextualKey;
+import io.reactiverse.contextual.logging.impl.ContextualDataImpl;
+import io.reactiverse.contextual.logging.impl.ContextualDataView;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
@@ -49,7 +50,7 @@ public final class JULContextualDataFormatter extends Formatter {
 
   private static final List<String> RESERVED = Arrays.asList("date", "source", "logger", "level", "message", "thrown");
 
-  private final List<BiFunction<LogRecord, ContextInternal, Object>> resolvers = new ArrayList<>();
+  private final List<BiFunction<LogRecord, ContextualDataView, Object>> resolvers = new ArrayList<>();
 
   public JULContextualDataFormatter() {
     this(LogManager.getLogManager().getProperty(JULContextualDataFormatter.class.getName() + ".format"));
@@ -63,13 +64,13 @@ public final class JULContextualDataFormatter extends Formatter {
 
     // add the default resolvers
     // 1. date
-    resolvers.add((record, ctx) -> {
+    resolvers.add((record, view) -> {
       // with java 11 this should be replaced with the new time APIs
       dat.setTime(record.getMillis());
       return dat;
     });
     // 2. source
-    resolvers.add((record, ctx) -> {
+    resolvers.add((record, view) -> {
       String source;
       if (record.getSourceClassName() != null) {
         source = record.getSourceClassName();
@@ -82,13 +83,13 @@ public final class JULContextualDataFormatter extends Formatter {
       return source;
     });
     // 3. logger
-    resolvers.add((record, ctx) -> record.getLoggerName());
+    resolvers.add((record, view) -> record.getLoggerName());
     // 4. level
-    resolvers.add((record, ctx) -> record.getLevel().getLocalizedName());
+    resolvers.add((record, view) -> record.getLevel().getLocalizedName());
     // 5. message
-    resolvers.add((record, ctx) -> formatMessage(record));
+    resolvers.add((record, view) -> formatMessage(record));
     // 6. thrown
-    resolvers.add((record, ctx) -> {
+    resolvers.add((record, view) -> {
       String throwable = defaultEmpty;
       if (record.getThrown() != null) {
         StringWriter sw = new StringWriter();
@@ -133,9 +134,12 @@ public final class JULContextualDataFormatter extends Formatter {
           }
 
           // placeholder is not present so we need to compute it at runtime
-          resolvers.add((record, ctx) -> {
-            if (ctx != null) {
-              return ContextualData.getOrDefault(ctxKey, defValue);
+          // the key is resolved once, records are then formatted with an indexed read
+          final ContextualKey<Object> key = ContextualKey.register(ctxKey, Object.class);
+          resolvers.add((record, view) -> {
+            if (view != null) {
+              // primitive values are handed to the formatter as is, String.format converts them to text
+              return view.getOrDefault(key, defValue);
             } else {
               return defValue;
             }
@@ -215,10 +219,11 @@ public final class JULContextualDataFormatter extends Formatter {
   @Override
   public String format(LogRecord record) {
     final Object[] args = new Object[resolvers.size()];
-    final ContextInternal context = ContextInternal.current();
+    // the contextual data is resolved once for all the placeholders
+    final ContextualDataView view = ContextualDataImpl.view();
     // process the placeholder values
     for (int i = 0; i < args.length; i++) {
-      args[i] = resolvers.get(i).apply(record, context);
+      args[i] = resolvers.get(i).apply(record, view);
     }
     // format
     return String.format(template, args);
@@ -20,5 +20,5 @@ module io.reactiverse.contextual.logging.jul {
   requires java.logging;
   requires io.vertx.core;
 
-  exports io.reactiverse.contextual.logging.jul to java.logging;
+  exports io.reactiverse.contextual.logging.jul to java.logging, io.reactiverse.contextual.logging.jul.tests;
 }
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.reactiverse.contextual.logging.jul.tests;
+
+import io.reactiverse.contextual.logging.ContextualData;
+import io.reactiverse.contextual.logging.jul.JULContextualDataFormatter;
+import io.reactiverse.contextual.logging.tests.AllocationMeter;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.test.core.VertxTestBase;
+import org.junit.Test;
+
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * Allocation budget of the JUL formatter hot path.
+ * <p>
+ * {@link String#format} allocates a new formatter and its output for every record, so the budget is expressed
+ * relative to formatting the same (already resolved) arguments with the same template.
+ */
+public class JulAllocationIT extends VertxTestBase {
+
+  /**
+   * Resolving the placeholders costs the arguments array and must not copy or convert the contextual data.
+   */
+  private static final long FORMATTER_EXTRA_BUDGET = 128;
+
+  /**
+   * The template configured in {@code logging.properties}, with the {@code requestId} placeholder resolved.
+   */
+  private static final String TEMPLATE = "%7$s ### %5$s%n";
+
+  @Test
+  public void testFormatter() {
+    ContextInternal context = ((ContextInternal) vertx.getOrCreateContext()).duplicate();
+    context.dispatch(() -> ContextualData.put("requestId", "foo"));
+    JULContextualDataFormatter formatter = new JULContextualDataFormatter();
+    LogRecord record = new LogRecord(Level.INFO, "hello");
+    record.setLoggerName(JulAllocationIT.class.getName());
+    Object[] args = {null, null, null, null, "hello", null, "foo"};
+    String[] formatted = new String[2];
+    long baseline = AllocationMeter.bytesPerOperation(context, () -> formatted[0] = String.format(TEMPLATE, args));
+    long allocated = AllocationMeter.bytesPerOperation(context, () -> formatted[1] = formatter.format(record));
+    assertEquals(formatted[0], formatted[1]);
+    assertTrue("Formatter allocated " + allocated + " bytes per record, baseline is " + baseline, allocated - baseline <= FORMATTER_EXTRA_BUDGET);
+  }
+}
@@ -17,4 +17,9 @@
 open module io.reactiverse.contextual.logging.jul.tests {
   requires io.reactiverse.contextual.logging.jul;
   requires io.reactiverse.contextual.logging.tests;
+  requires io.reactiverse.contextual.logging;
+  requires io.vertx.core;
+  requires io.vertx.core.tests;
+  requires java.logging;
+  requires junit;
 }
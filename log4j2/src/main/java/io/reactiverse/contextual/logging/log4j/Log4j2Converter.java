@@ -15,42 +15,76 @@
  */
 package io.reactiverse.contextual.logging.log4j;
 
-import io.reactiverse.contextual.logging.ContextualData;
-import io.vertx.core.internal.ContextInternal;
+import io.reactiverse.contextual.logging.ContextualKey;
+import io.reactiverse.contextual.logging.impl.ContextualDataImpl;
+import io.reactiverse.contextual.logging.impl.ContextualDataView;
+import io.reactiverse.contextual.logging.log4j.impl.KeyValueFormat;
 import org.apache.logging.log4j.core.LogEvent;
 import org.apache.logging.log4j.core.config.plugins.Plugin;
 import org.apache.logging.log4j.core.pattern.ConverterKeys;
 import org.apache.logging.log4j.core.pattern.LogEventPatternConverter;
 import org.apache.logging.log4j.core.pattern.PatternConverter;
+import org.apache.logging.log4j.util.ReadOnlyStringMap;
 
+/**
+ * Contextual data converter for log4j2.
+ * <p>
+ * Unlike the Logback converters, each converter of a layout resolves the contextual data of the event on its own:
+ * log4j2 does not link the converters of a layout, and reuses the same event instance for the events of a thread in
+ * garbage-free mode, so a view shared by event identity could be the one of a previous event.
+ * A single {@code %vcl{key1,key2}} conversion, rendered as {@code key=value} pairs, resolves several keys at once.
+ */
 @Plugin(name = "VertxContextualLogging", category = PatternConverter.CATEGORY)
 @ConverterKeys("vcl")
 public class Log4j2Converter extends LogEventPatternConverter {
 
-  private String key;
+  private String name;
+  private ContextualKey<Object> key;
   private String defaultValue = "";
+  private KeyValueFormat keyValueFormat;
 
   private Log4j2Converter(String[] options) {
     super(options != null && options.length > 0 ? "vcl{" + options[0] + '}' : "vcl", "vcl");
-    if (options != null && options.length > 0) {
+    if (options == null || options.length == 0 || options[0].trim().isEmpty() || options[0].indexOf(',') != -1 || options.length > 1) {
+      // All keys, a list of keys or a key with settings, rendered as key=value pairs
+      keyValueFormat = KeyValueFormat.parse(options);
+    } else {
       String option = options[0];
       int separator = option.indexOf(":-");
       if (separator == -1) {
-        key = option;
+        name = option;
       } else {
-        key = option.substring(0, separator);
+        name = option.substring(0, separator);
         defaultValue = option.substring(separator + 2);
       }
+      key = ContextualKey.register(name, Object.class);
     }
   }
 
   @Override
   public void format(LogEvent event, StringBuilder toAppendTo) {
-    ContextInternal context = ContextInternal.current();
-    if (context != null && key != null) {
-      toAppendTo.append(ContextualData.getOrDefault(key, defaultValue));
+    ContextualDataView view = ContextualDataImpl.view();
+    if (view == null) {
+      // Not on a Vert.x thread: with async loggers or appenders, the event is formatted on a background thread
+      // so use the contextual data captured by the context data provider when the event was created
+      formatContextData(event.getContextData(), toAppendTo);
+    } else if (keyValueFormat != null) {
+      keyValueFormat.format(view, toAppendTo);
+    } else {
+      ContextualDataImpl.appendValue(toAppendTo, view.getOrDefault(key, defaultValue));
+    }
+  }
+
+  private void formatContextData(ReadOnlyStringMap contextData, StringBuilder toAppendTo) {
+    if (keyValueFormat != null) {
+      keyValueFormat.format(contextData, toAppendTo);
     } else {
-      toAppendTo.append(defaultValue);
+      Object value = contextData.getValue(name);
+      if (value != null) {
+        ContextualDataImpl.appendValue(toAppendTo, value);
+      } else {
+        toAppendTo.append(defaultValue);
+      }
     }
   }
 
@@ -0,0 +1,278 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.reactiverse.contextual.logging.log4j;
+
+import io.reactiverse.contextual.logging.ContextualKey;
+import io.reactiverse.contextual.logging.impl.ContextualDataImpl;
+import io.reactiverse.contextual.logging.impl.ContextualDataView;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.config.plugins.Plugin;
+import org.apache.logging.log4j.core.config.plugins.PluginFactory;
+import org.apache.logging.log4j.layout.template.json.resolver.EventResolver;
+import org.apache.logging.log4j.layout.template.json.resolver.EventResolverContext;
+import org.apache.logging.log4j.layout.template.json.resolver.EventResolverFactory;
+import org.apache.logging.log4j.layout.template.json.resolver.TemplateResolverConfig;
+import org.apache.logging.log4j.layout.template.json.resolver.TemplateResolverFactory;
+import org.apache.logging.log4j.layout.template.json.util.JsonWriter;
+import org.apache.logging.log4j.util.IndexedReadOnlyStringMap;
+import org.apache.logging.log4j.util.ReadOnlyStringMap;
+
+import java.util.List;
+
+/**
+ * Creates the {@code vertxContext} resolver of the log4j2 {@code JsonTemplateLayout}, which writes contextual data directly
+ * to the JSON writer.
+ * <p>
+ * The resolver accepts these options:
+ * <ul>
+ *   <li>{@code key}: write the value of a single key</li>
+ *   <li>{@code keys}: write an object with the listed keys only, in order, skipping absent ones (all keys, sorted by name, by default)</li>
+ *   <li>{@code flatten}: write the entries into the enclosing object instead of a nested object</li>
+ *   <li>{@code stringified}: write numbers and booleans as strings</li>
+ * </ul>
+ * <p>
+ * Like the log4j2 {@code mdc} resolver, the resolver is not resolvable when there is nothing to write: the layout then omits
+ * the field, e.g. when the {@code key} is absent.
+ * <p>
+ * Off a Vert.x thread, e.g. with async loggers or appenders, the resolver reads the context data captured in the event.
+ * Without {@code key} or {@code keys}, the entries of the thread context or of the configuration properties are then skipped,
+ * unless their name is also used as a contextual data key.
+ */
+@Plugin(name = "VertxContextResolverFactory", category = TemplateResolverFactory.CATEGORY)
+public final class Log4j2JsonResolverFactory implements EventResolverFactory {
+
+  private static final Log4j2JsonResolverFactory INSTANCE = new Log4j2JsonResolverFactory();
+
+  private Log4j2JsonResolverFactory() {
+  }
+
+  @PluginFactory
+  public static Log4j2JsonResolverFactory getInstance() {
+    return INSTANCE;
+  }
+
+  @Override
+  public String getName() {
+    return "vertxContext";
+  }
+
+  @Override
+  public EventResolver create(EventResolverContext context, TemplateResolverConfig config) {
+    String key = config.getString("key");
+    List<String> keys = config.getList("keys", String.class);
+    boolean flatten = config.getBoolean("flatten", false);
+    boolean stringified = config.getBoolean("stringified", false);
+    if (key != null) {
+      if (keys != null || flatten) {
+        throw new IllegalArgumentException("key cannot be combined with keys or flatten: " + config);
+      }
+      return new ContextResolver(new String[]{key}, true, false, stringified);
+    }
+    return new ContextResolver(keys != null ? keys.toArray(new String[0]) : null, false, flatten, stringified);
+  }
+
+  private static final class ContextResolver implements EventResolver {
+
+    private final String[] names;
+    private final ContextualKey<Object>[] keys;
+    private final boolean single;
+    private final boolean flatten;
+    private final boolean stringified;
+    private final ThreadLocal<Resolution> resolutions = ThreadLocal.withInitial(Resolution::new);
+
+    @SuppressWarnings("unchecked")
+    ContextResolver(String[] names, boolean single, boolean flatten, boolean stringified) {
+      this.names = names;
+      if (names != null) {
+        keys = new ContextualKey[names.length];
+        for (int i = 0; i < names.length; i++) {
+          keys[i] = ContextualKey.register(names[i], Object.class);
+        }
+      } else {
+        keys = null;
+      }
+      this.single = single;
+      this.flatten = flatten;
+      this.stringified = stringified;
+    }
+
+    @Override
+    public boolean isFlattening() {
+      return flatten;
+    }
+
+    @Override
+    public boolean isResolvable(LogEvent event) {
+      ContextualDataView view = ContextualDataImpl.view();
+      if (!isResolvable(view, event)) {
+        return false;
+      }
+      if (view != null) {
+        // The layout resolves the event right after, keep the view for it
+        Resolution r = resolutions.get();
+        r.event = event;
+        r.view = view;
+      }
+      return true;
+    }
+
+    private boolean isResolvable(ContextualDataView view, LogEvent event) {
+      if (keys == null) {
+        return view != null ? !view.isEmpty() : hasContextualEntries(event.getContextData());
+      }
+      for (int i = 0; i < keys.length; i++) {
+        if (value(view, event, i) != null) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    /**
+     * @return the view kept by {@link #isResolvable(LogEvent)} for the {@code event}, or the view of the current context
+     */
+    private ContextualDataView view(LogEvent event) {
+      Resolution r = resolutions.get();
+      ContextualDataView view = r.event == event ? r.view : ContextualDataImpl.view();
+      r.clear();
+      return view;
+    }
+
+    private Object value(ContextualDataView view, LogEvent event, int index) {
+      // Not on a Vert.x thread: with async loggers or appenders, the event is processed on a background thread
+      // so use the contextual data captured by the context data provider when the event was created
+      return view != null ? view.get(keys[index]) : event.getContextData().getValue(names[index]);
+    }
+
+    @Override
+    public void resolve(LogEvent event, JsonWriter jsonWriter) {
+      resolve(event, jsonWriter, false);
+    }
+
+    @Override
+    public void resolve(LogEvent event, JsonWriter jsonWriter, boolean succeedingEntry) {
+      ContextualDataView view = view(event);
+      if (single) {
+        writeValue(jsonWriter, value(view, event, 0));
+        return;
+      }
+      if (!flatten) {
+        jsonWriter.writeObjectStart();
+      }
+      boolean separator = flatten && succeedingEntry;
+      if (keys != null) {
+        for (int i = 0; i < keys.length; i++) {
+          Object value = value(view, event, i);
+          if (value != null) {
+            separator = writeEntry(jsonWriter, separator, names[i], value);
+          }
+        }
+      } else if (view != null) {
+        Object[] entries = view.sortedEntries();
+        for (int i = 0; i < entries.length; i += 2) {
+          separator = writeEntry(jsonWriter, separator, (String) entries[i], entries[i + 1]);
+        }
+      } else {
+        writeEntries(jsonWriter, separator, event.getContextData());
+      }
+      if (!flatten) {
+        jsonWriter.writeObjectEnd();
+      }
+    }
+
+    private static boolean hasContextualEntries(ReadOnlyStringMap contextData) {
+      if (contextData instanceof IndexedReadOnlyStringMap) {
+        IndexedReadOnlyStringMap indexed = (IndexedReadOnlyStringMap) contextData;
+        for (int i = 0; i < indexed.size(); i++) {
+          if (indexed.getValueAt(i) != null && ContextualDataImpl.isKeyName(indexed.getKeyAt(i))) {
+            return true;
+          }
+        }
+        return false;
+      }
+      boolean[] found = {false};
+      contextData.forEach((String name, Object value) -> found[0] |= value != null && ContextualDataImpl.isKeyName(name));
+      return found[0];
+    }
+
+    private void writeEntries(JsonWriter jsonWriter, boolean separator, ReadOnlyStringMap contextData) {
+      // Skip the thread context and configuration properties entries
+      if (contextData instanceof IndexedReadOnlyStringMap) {
+        // Log4j2 context data maps are indexed, iterate without allocating
+        IndexedReadOnlyStringMap indexed = (IndexedReadOnlyStringMap) contextData;
+        for (int i = 0; i < indexed.size(); i++) {
+          Object value = indexed.getValueAt(i);
+          String name = indexed.getKeyAt(i);
+          if (value != null && ContextualDataImpl.isKeyName(name)) {
+            separator = writeEntry(jsonWriter, separator, name, value);
+          }
+        }
+      } else {
+        boolean[] state = {separator};
+        contextData.forEach((String name, Object value) -> {
+          if (value != null && ContextualDataImpl.isKeyName(name)) {
+            state[0] = writeEntry(jsonWriter, state[0], name, value);
+          }
+        });
+      }
+    }
+
+    private boolean writeEntry(JsonWriter jsonWriter, boolean separator, String name, Object value) {
+      if (separator) {
+        jsonWriter.writeSeparator();
+      }
+      jsonWriter.writeObjectKey(name);
+      writeValue(jsonWriter, value);
+      return true;
+    }
+
+    private void writeValue(JsonWriter jsonWriter, Object value) {
+      if (value == null) {
+        jsonWriter.writeNull();
+      } else if (value instanceof String) {
+        jsonWriter.writeString((String) value);
+      } else if (value instanceof Long || value instanceof Integer || value instanceof Boolean) {
+        if (stringified) {
+          // Numbers and booleans need no escaping
+          StringBuilder sb = jsonWriter.getStringBuilder();
+          sb.append('"');
+          ContextualDataImpl.appendValue(sb, value);
+          sb.append('"');
+        } else if (value instanceof Boolean) {
+          jsonWriter.writeBoolean((Boolean) value);
+        } else {
+          jsonWriter.writeNumber(((Number) value).longValue());
+        }
+      } else {
+        jsonWriter.writeString(value.toString());
+      }
+    }
+  }
+
+  /**
+   * The view resolved by {@link ContextResolver#isResolvable(LogEvent)} for the event being encoded by a thread.
+   */
+  private static final class Resolution {
+
+    LogEvent event;
+    ContextualDataView view;
+
+    void clear() {
+      event = null;
+      view = null;
+    }
+  }
+}
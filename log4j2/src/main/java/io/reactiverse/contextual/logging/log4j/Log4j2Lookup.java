@@ -0,0 +1,49 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.reactiverse.contextual.logging.log4j;
+
+import io.reactiverse.contextual.logging.impl.ContextualDataImpl;
+import io.reactiverse.contextual.logging.impl.ContextualDataView;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.config.plugins.Plugin;
+import org.apache.logging.log4j.core.lookup.AbstractLookup;
+import org.apache.logging.log4j.core.lookup.StrLookup;
+
+/**
+ * Resolves {@code ${vcl:key}} variables from the contextual data, e.g. in {@code RoutingAppender} routes or file names.
+ * <p>
+ * Default values ({@code ${vcl:key:-default}}) are applied by the log4j2 variable substitution when the key is absent.
+ */
+@Plugin(name = "vcl", category = StrLookup.CATEGORY)
+public class Log4j2Lookup extends AbstractLookup {
+
+  @Override
+  public String lookup(LogEvent event, String key) {
+    ContextualDataView view = ContextualDataImpl.view();
+    if (view == null) {
+      // Not on a Vert.x thread: with async loggers or appenders, the event is processed on a background thread
+      // so use the contextual data captured by the context data provider when the event was created
+      if (event == null) {
+        return null;
+      }
+      Object value = event.getContextData().getValue(key);
+      return value != null ? value.toString() : null;
+    }
+    // String values are returned as is, so a hit does not allocate
+    Object value = view.lookup(key);
+    return value != null ? value.toString() : null;
+  }
+}
@@ -0,0 +1,319 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.reactiverse.contextual.logging.log4j;
+
+import io.reactiverse.contextual.logging.ContextualKey;
+import io.reactiverse.contextual.logging.impl.ContextualDataImpl;
+import io.reactiverse.contextual.logging.impl.ContextualDataView;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.Marker;
+import org.apache.logging.log4j.core.Filter;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.Logger;
+import org.apache.logging.log4j.core.config.Node;
+import org.apache.logging.log4j.core.config.plugins.Plugin;
+import org.apache.logging.log4j.core.config.plugins.PluginAttribute;
+import org.apache.logging.log4j.core.config.plugins.PluginElement;
+import org.apache.logging.log4j.core.config.plugins.PluginFactory;
+import org.apache.logging.log4j.core.filter.AbstractFilter;
+import org.apache.logging.log4j.core.util.KeyValuePair;
+import org.apache.logging.log4j.message.Message;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Compares the level of log events with a threshold selected by the value of a contextual data key, like the log4j2
+ * {@code DynamicThresholdFilter} does with the thread context.
+ * <p>
+ * For example, to log at {@code DEBUG} level for the {@code acme} tenant only, add this context-wide filter to the configuration:
+ * <pre>{@code
+ * <ContextualDataThresholdFilter key="tenant" onMatch="ACCEPT" onMismatch="NEUTRAL">
+ *   <KeyValuePair key="acme" value="DEBUG"/>
+ * </ContextualDataThresholdFilter>
+ * }</pre>
+ * <p>
+ * The filter is evaluated before log events are built: when the value has no threshold, it costs a contextual data read
+ * and a hash lookup. Thresholds can be changed at runtime with {@link #setThreshold(String, Level)} or the
+ * {@link Log4j2ThresholdFilterMXBean}, without reconfiguring log4j2.
+ * <p>
+ * Thresholds are configured for the {@code String} form of values. {@code long}, {@code int} and {@code boolean} values
+ * match the same thresholds, and are looked up without being converted to a {@code String}.
+ */
+@Plugin(name = "ContextualDataThresholdFilter", category = Node.CATEGORY, elementType = Filter.ELEMENT_TYPE, printObject = true)
+public class Log4j2ThresholdFilter extends AbstractFilter implements Log4j2ThresholdFilterMXBean {
+
+  private static final AtomicLong IDS = new AtomicLong();
+
+  private final long id = IDS.incrementAndGet();
+  private final ContextualKey<Object> key;
+  private final Level defaultThreshold;
+  private final Map<String, Level> thresholds;
+  private volatile Map<Object, Level> thresholdsByValue;
+  private ObjectName objectName;
+
+  private Log4j2ThresholdFilter(String key, Map<String, Level> thresholds, Level defaultThreshold, Result onMatch, Result onMismatch) {
+    super(onMatch, onMismatch);
+    this.key = ContextualKey.register(Objects.requireNonNull(key, "key"), Object.class);
+    this.defaultThreshold = defaultThreshold;
+    this.thresholds = new ConcurrentHashMap<>(thresholds);
+    this.thresholdsByValue = thresholdsByValue(this.thresholds);
+  }
+
+  /**
+   * @return the thresholds by {@code String} value, and by the {@code Long}, {@code Integer} or {@code Boolean} value
+   * having the same {@code String} form
+   */
+  private static Map<Object, Level> thresholdsByValue(Map<String, Level> thresholds) {
+    Map<Object, Level> result = new HashMap<>();
+    for (Map.Entry<String, Level> threshold : thresholds.entrySet()) {
+      String value = threshold.getKey();
+      Level level = threshold.getValue();
+      result.put(value, level);
+      if (value.equals("true") || value.equals("false")) {
+        result.put(Boolean.valueOf(value), level);
+        continue;
+      }
+      try {
+        long l = Long.parseLong(value);
+        // e.g. not "+1" or "01", which no number is converted to
+        if (Long.toString(l).equals(value)) {
+          result.put(l, level);
+          if (l == (int) l) {
+            result.put((int) l, level);
+          }
+        }
+      } catch (NumberFormatException ignored) {
+        // Only matches String values
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Create the filter.
+   *
+   * @param key              the contextual data key
+   * @param pairs            the thresholds, as contextual data value and level name pairs
+   * @param defaultThreshold the threshold applied when the contextual data value has no threshold, {@code ERROR} if {@code null}
+   * @param onMatch          the result when the event level is more specific than the threshold
+   * @param onMismatch       the result otherwise
+   * @return the filter
+   */
+  @PluginFactory
+  public static Log4j2ThresholdFilter createFilter(
+    @PluginAttribute("key") String key,
+    @PluginElement("Pairs") KeyValuePair[] pairs,
+    @PluginAttribute("defaultThreshold") Level defaultThreshold,
+    @PluginAttribute("onMatch") Result onMatch,
+    @PluginAttribute("onMismatch") Result onMismatch) {
+    Map<String, Level> thresholds = new HashMap<>();
+    if (pairs != null) {
+      for (KeyValuePair pair : pairs) {
+        thresholds.put(pair.getKey(), Level.valueOf(pair.getValue()));
+      }
+    }
+    return new Log4j2ThresholdFilter(key, thresholds, defaultThreshold != null ? defaultThreshold : Level.ERROR, onMatch, onMismatch);
+  }
+
+  @Override
+  public String getKey() {
+    return key.name();
+  }
+
+  @Override
+  public String getDefaultThreshold() {
+    return defaultThreshold.name();
+  }
+
+  @Override
+  public Map<String, String> getThresholds() {
+    Map<String, String> result = new TreeMap<>();
+    thresholds.forEach((value, level) -> result.put(value, level.name()));
+    return result;
+  }
+
+  @Override
+  public void setThreshold(String value, String level) {
+    setThreshold(value, Level.valueOf(level));
+  }
+
+  /**
+   * Set the threshold of a contextual data value.
+   *
+   * @param value the contextual data value
+   * @param level the level
+   */
+  public synchronized void setThreshold(String value, Level level) {
+    thresholds.put(Objects.requireNonNull(value, "value"), Objects.requireNonNull(level, "level"));
+    thresholdsByValue = thresholdsByValue(thresholds);
+  }
+
+  @Override
+  public synchronized void removeThreshold(String value) {
+    thresholds.remove(value);
+    thresholdsByValue = thresholdsByValue(thresholds);
+  }
+
+  private Result filter(Level level, Map<Object, Level> byValue, Object value) {
+    Level threshold = null;
+    if (value instanceof String || value instanceof Long || value instanceof Integer || value instanceof Boolean) {
+      threshold = byValue.get(value);
+    } else if (value != null) {
+      threshold = byValue.get(value.toString());
+    }
+    return level.isMoreSpecificThan(threshold != null ? threshold : defaultThreshold) ? onMatch : onMismatch;
+  }
+
+  private Result filter(Level level) {
+    Map<Object, Level> byValue = thresholdsByValue;
+    return filter(level, byValue, byValue.isEmpty() ? null : key.get());
+  }
+
+  @Override
+  public Result filter(LogEvent event) {
+    Map<Object, Level> byValue = thresholdsByValue;
+    Object value = null;
+    if (!byValue.isEmpty()) {
+      ContextualDataView view = ContextualDataImpl.view();
+      if (view != null) {
+        value = view.get(key);
+      } else {
+        // Not on a Vert.x thread, e.g. an async logger or appender thread: use the context data captured in the event
+        value = event.getContextData().getValue(key.name());
+      }
+    }
+    return filter(event.getLevel(), byValue, value);
+  }
+
+  @Override
+  public Result filter(Logger logger, Level level, Marker marker, Message msg, Throwable t) {
+    return filter(level);
+  }
+
+  @Override
+  public Result filter(Logger logger, Level level, Marker marker, Object msg, Throwable t) {
+    return filter(level);
+  }
+
+  @Override
+  public Result filter(Logger logger, Level level, Marker marker, String msg, Object... params) {
+    return filter(level);
+  }
+
+  @Override
+  public Result filter(Logger logger, Level level, Marker marker, String msg, Object p0) {
+    return filter(level);
+  }
+
+  @Override
+  public Result filter(Logger logger, Level level, Marker marker, String msg, Object p0, Object p1) {
+    return filter(level);
+  }
+
+  @Override
+  public Result filter(Logger logger, Level level, Marker marker, String msg, Object p0, Object p1, Object p2) {
+    return filter(level);
+  }
+
+  @Override
+  public Result filter(Logger logger, Level level, Marker marker, String msg, Object p0, Object p1, Object p2, Object p3) {
+    return filter(level);
+  }
+
+  @Override
+  public Result filter(Logger logger, Level level, Marker marker, String msg, Object p0, Object p1, Object p2, Object p3, Object p4) {
+    return filter(level);
+  }
+
+  @Override
+  public Result filter(Logger logger, Level level, Marker marker, String msg, Object p0, Object p1, Object p2, Object p3, Object p4,
+                       Object p5) {
+    return filter(level);
+  }
+
+  @Override
+  public Result filter(Logger logger, Level level, Marker marker, String msg, Object p0, Object p1, Object p2, Object p3, Object p4,
+                       Object p5, Object p6) {
+    return filter(level);
+  }
+
+  @Override
+  public Result filter(Logger logger, Level level, Marker marker, String msg, Object p0, Object p1, Object p2, Object p3, Object p4,
+                       Object p5, Object p6, Object p7) {
+    return filter(level);
+  }
+
+  @Override
+  public Result filter(Logger logger, Level level, Marker marker, String msg, Object p0, Object p1, Object p2, Object p3, Object p4,
+                       Object p5, Object p6, Object p7, Object p8) {
+    return filter(level);
+  }
+
+  @Override
+  public Result filter(Logger logger, Level level, Marker marker, String msg, Object p0, Object p1, Object p2, Object p3, Object p4,
+                       Object p5, Object p6, Object p7, Object p8, Object p9) {
+    return filter(level);
+  }
+
+  /**
+   * @return the object name of the MXBean, unique to this filter even when several filters use the same key
+   * (e.g. a context-wide filter and an appender filter, or the filters of the previous and new configurations on reconfiguration)
+   */
+  public String getObjectName() {
+    return OBJECT_NAME_PREFIX + ObjectName.quote(key.name()) + ",id=" + id;
+  }
+
+  @Override
+  public synchronized void start() {
+    super.start();
+    if (objectName == null) {
+      try {
+        ObjectName name = new ObjectName(getObjectName());
+        ManagementFactory.getPlatformMBeanServer().registerMBean(this, name);
+        objectName = name;
+      } catch (JMException e) {
+        LOGGER.warn("Could not register the contextual data threshold filter MXBean", e);
+      }
+    }
+  }
+
+  @Override
+  public synchronized boolean stop(long timeout, TimeUnit timeUnit) {
+    if (objectName != null) {
+      try {
+        ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+      } catch (JMException e) {
+        LOGGER.warn("Could not unregister the contextual data threshold filter MXBean", e);
+      }
+      objectName = null;
+    }
+    return super.stop(timeout, timeUnit);
+  }
+
+  @Override
+  public String toString() {
+    return "key=" + key.name() + ", default=" + defaultThreshold + ", thresholds=" + getThresholds();
+  }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.reactiverse.contextual.logging.log4j;
+
+import java.util.Map;
+
+/**
+ * Management interface of a {@link Log4j2ThresholdFilter}, registered as
+ * {@code io.reactiverse.contextual.logging:type=ContextualDataThresholdFilter,key="<key>",id=<id>}.
+ * <p>
+ * The key is quoted with {@link javax.management.ObjectName#quote(String)}, so that it can contain any character.
+ * The {@code id} property tells apart the filters using the same key, see {@link Log4j2ThresholdFilter#getObjectName()}.
+ */
+public interface Log4j2ThresholdFilterMXBean {
+
+  /**
+   * The object name of the MXBean, without the quoted key and the id properties.
+   */
+  String OBJECT_NAME_PREFIX = "io.reactiverse.contextual.logging:type=ContextualDataThresholdFilter,key=";
+
+  /**
+   * @return the contextual data key
+   */
+  String getKey();
+
+  /**
+   * @return the threshold applied when the contextual data value has no threshold
+   */
+  String getDefaultThreshold();
+
+  /**
+   * @return the thresholds, by contextual data value
+   */
+  Map<String, String> getThresholds();
+
+  /**
+   * Set the threshold of a contextual data value.
+   *
+   * @param value the contextual data value
+   * @param level the level name, e.g. {@code DEBUG}
+   * @throws IllegalArgumentException if the level is unknown
+   */
+  void setThreshold(String value, String level);
+
+  /**
+   * Remove the threshold of a contextual data value, so that the default threshold applies.
+   *
+   * @param value the contextual data value
+   */
+  void removeThreshold(String value);
+}
@@ -0,0 +1,244 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.reactiverse.contextual.logging.log4j.impl;
+
+import io.reactiverse.contextual.logging.ContextualKey;
+import io.reactiverse.contextual.logging.impl.ContextualDataImpl;
+import io.reactiverse.contextual.logging.impl.ContextualDataView;
+import org.apache.logging.log4j.util.ReadOnlyStringMap;
+import org.apache.logging.log4j.util.TriConsumer;
+
+import java.util.Locale;
+
+/**
+ * Renders contextual data as {@code key=value} pairs, logfmt style, appending directly to the layout buffer.
+ * <p>
+ * The pairs are either the listed keys, in order, or all the keys of the contextual data, sorted by name.
+ * Absent keys without a default value are skipped.
+ * <p>
+ * Control characters of values are escaped ({@code \n}, {@code \r}, {@code \t} or {@code \}{@code u00XX}), so that
+ * a value cannot break the line and forge log entries.
+ */
+public final class KeyValueFormat {
+
+  /**
+   * How values are quoted.
+   */
+  public enum Quoting {
+    /**
+     * Values that are empty or contain spaces, control characters, {@code =} or {@code "} are quoted
+     */
+    AUTO,
+    /**
+     * All values are quoted
+     */
+    ALWAYS,
+    /**
+     * Values are never quoted, control characters are still escaped
+     */
+    NEVER
+  }
+
+  private static final String DEFAULT_SEPARATOR = " ";
+  private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+  private final String[] names;
+  private final ContextualKey<Object>[] keys;
+  private final String[] defaultValues;
+  private final String separator;
+  private final Quoting quoting;
+  private final TriConsumer<String, Object, StringBuilder> entryAppender = this::appendEntry;
+
+  private KeyValueFormat(String[] names, ContextualKey<Object>[] keys, String[] defaultValues, String separator, Quoting quoting) {
+    this.names = names;
+    this.keys = keys;
+    this.defaultValues = defaultValues;
+    this.separator = separator;
+    this.quoting = quoting;
+  }
+
+  /**
+   * Parse the converter options.
+   *
+   * @param options the converter options: a comma separated list of keys, each with an optional {@code :-} default value
+   *                (all keys when empty), then optional {@code separator=...} and {@code quote=auto|always|never} settings
+   * @return the format
+   * @throws IllegalArgumentException if a setting is invalid
+   */
+  @SuppressWarnings("unchecked")
+  public static KeyValueFormat parse(String[] options) {
+    String[] names = null;
+    ContextualKey<Object>[] keys = null;
+    String[] defaultValues = null;
+    if (options != null && options.length > 0 && !options[0].trim().isEmpty()) {
+      String[] list = options[0].split(",");
+      names = new String[list.length];
+      keys = new ContextualKey[list.length];
+      defaultValues = new String[list.length];
+      for (int i = 0; i < list.length; i++) {
+        String option = list[i].trim();
+        int separator = option.indexOf(":-");
+        if (separator == -1) {
+          names[i] = option;
+        } else {
+          names[i] = option.substring(0, separator);
+          defaultValues[i] = option.substring(separator + 2);
+        }
+        keys[i] = ContextualKey.register(names[i], Object.class);
+      }
+    }
+    String separator = DEFAULT_SEPARATOR;
+    Quoting quoting = Quoting.AUTO;
+    for (int i = 1; options != null && i < options.length; i++) {
+      String setting = options[i];
+      if (setting.startsWith("separator=")) {
+        separator = setting.substring("separator=".length());
+      } else if (setting.startsWith("quote=")) {
+        quoting = Quoting.valueOf(setting.substring("quote=".length()).trim().toUpperCase(Locale.ROOT));
+      } else {
+        throw new IllegalArgumentException("Invalid setting: " + setting);
+      }
+    }
+    return new KeyValueFormat(names, keys, defaultValues, separator, quoting);
+  }
+
+  /**
+   * Append the pairs to {@code sb}.
+   *
+   * @param view the contextual data, or {@code null} on a non Vert.x thread
+   * @param sb   the layout buffer
+   */
+  public void format(ContextualDataView view, StringBuilder sb) {
+    if (keys == null) {
+      if (view != null) {
+        Object[] entries = view.sortedEntries();
+        for (int i = 0; i < entries.length; i += 2) {
+          appendPair(sb, i == 0, (String) entries[i], entries[i + 1]);
+        }
+      }
+      return;
+    }
+    boolean first = true;
+    for (int i = 0; i < keys.length; i++) {
+      Object value = view != null ? view.get(keys[i]) : null;
+      if (value == null) {
+        value = defaultValues[i];
+      }
+      if (value != null) {
+        appendPair(sb, first, names[i], value);
+        first = false;
+      }
+    }
+  }
+
+  /**
+   * Append the pairs to {@code sb}, reading the values from the context data captured in a log event.
+   * <p>
+   * When rendering all the keys, the entries of the thread context or of the configuration properties are skipped, unless
+   * their name is also used as a contextual data key.
+   *
+   * @param data the event context data
+   * @param sb   the layout buffer
+   */
+  public void format(ReadOnlyStringMap data, StringBuilder sb) {
+    if (keys == null) {
+      int start = sb.length();
+      data.forEach(entryAppender, sb);
+      if (sb.length() > start) {
+        sb.setLength(sb.length() - separator.length());
+      }
+      return;
+    }
+    boolean first = true;
+    for (int i = 0; i < names.length; i++) {
+      Object value = data.getValue(names[i]);
+      if (value == null) {
+        value = defaultValues[i];
+      }
+      if (value != null) {
+        appendPair(sb, first, names[i], value);
+        first = false;
+      }
+    }
+  }
+
+  private void appendEntry(String name, Object value, StringBuilder sb) {
+    if (value != null && ContextualDataImpl.isKeyName(name)) {
+      appendPair(sb, true, name, value);
+      sb.append(separator);
+    }
+  }
+
+  private void appendPair(StringBuilder sb, boolean first, String name, Object value) {
+    if (!first) {
+      sb.append(separator);
+    }
+    sb.append(name).append('=');
+    if (quoting != Quoting.ALWAYS && (value instanceof Number || value instanceof Boolean)) {
+      ContextualDataImpl.appendValue(sb, value);
+      return;
+    }
+    String s = value.toString();
+    if (quoting == Quoting.AUTO && !needsQuotes(s)) {
+      sb.append(s);
+    } else if (quoting == Quoting.NEVER) {
+      appendEscaped(sb, s, false);
+    } else {
+      sb.append('"');
+      appendEscaped(sb, s, true);
+      sb.append('"');
+    }
+  }
+
+  private static void appendEscaped(StringBuilder sb, String s, boolean quoted) {
+    for (int i = 0; i < s.length(); i++) {
+      char c = s.charAt(i);
+      if (c < ' ') {
+        switch (c) {
+          case '\n':
+            sb.append("\\n");
+            break;
+          case '\r':
+            sb.append("\\r");
+            break;
+          case '\t':
+            sb.append("\\t");
+            break;
+          default:
+            sb.append("\\u00").append(HEX_DIGITS[c >> 4]).append(HEX_DIGITS[c & 0xF]);
+        }
+      } else {
+        if (quoted && (c == '"' || c == '\\')) {
+          sb.append('\\');
+        }
+        sb.append(c);
+      }
+    }
+  }
+
+  private static boolean needsQuotes(String s) {
+    if (s.isEmpty()) {
+      return true;
+    }
+    for (int i = 0; i < s.length(); i++) {
+      char c = s.charAt(i);
+      if (c <= ' ' || c == '=' || c == '"') {
+        return true;
+      }
+    }
+    return false;
+  }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.reactiverse.contextual.logging.log4j.impl;
+
+import io.reactiverse.contextual.logging.impl.ContextualDataImpl;
+import io.reactiverse.contextual.logging.impl.ContextualDataView;
+import org.apache.logging.log4j.ThreadContext;
+import org.apache.logging.log4j.core.ContextDataInjector;
+import org.apache.logging.log4j.core.config.Property;
+import org.apache.logging.log4j.core.impl.ThreadContextDataInjector;
+import org.apache.logging.log4j.spi.ReadOnlyThreadContextMap;
+import org.apache.logging.log4j.util.ReadOnlyStringMap;
+import org.apache.logging.log4j.util.SortedArrayStringMap;
+import org.apache.logging.log4j.util.StringMap;
+
+import java.util.List;
+
+/**
+ * Injects Vert.x Contextual Data, merged with the {@link ThreadContext} data, into log4j2 log events.
+ * <p>
+ * Unlike {@link VertxContextDataProvider}, which log4j2 copies into each event through an intermediate map, the entries are
+ * written straight into the reusable map of the event. Enable it with the {@code log4j2.contextDataInjector} system property.
+ * Context data providers are not invoked when this injector is used.
+ */
+public class VertxContextDataInjector implements ContextDataInjector {
+
+  private final VertxContextDataProvider provider = new VertxContextDataProvider();
+
+  @Override
+  public StringMap injectContextData(List<Property> properties, StringMap reusable) {
+    ThreadContextDataInjector.copyProperties(properties, reusable);
+    if (!ThreadContext.isEmpty()) {
+      reusable.putAll(threadContextData());
+    }
+    // Contextual data entries win over thread context entries with the same key
+    ContextualDataView view = ContextualDataImpl.view();
+    if (view != null && !view.isEmpty()) {
+      Object[] entries = view.sortedEntries();
+      for (int i = 0; i < entries.length; i += 2) {
+        reusable.putValue((String) entries[i], entries[i + 1]);
+      }
+    }
+    return reusable;
+  }
+
+  @Override
+  public ReadOnlyStringMap rawContextData() {
+    StringMap contextualData = provider.supplyStringMap();
+    if (ThreadContext.isEmpty()) {
+      return contextualData;
+    }
+    ReadOnlyStringMap threadContextData = threadContextData();
+    if (contextualData.isEmpty()) {
+      return threadContextData;
+    }
+    StringMap merged = new SortedArrayStringMap(threadContextData.size() + contextualData.size());
+    merged.putAll(threadContextData);
+    merged.putAll(contextualData);
+    return merged;
+  }
+
+  private static ReadOnlyStringMap threadContextData() {
+    ReadOnlyThreadContextMap threadContextMap = ThreadContext.getThreadContextMap();
+    if (threadContextMap != null) {
+      return threadContextMap.getReadOnlyContextData();
+    }
+    // Custom thread context map implementation
+    return new SortedArrayStringMap(ThreadContext.getImmutableContext());
+  }
+}
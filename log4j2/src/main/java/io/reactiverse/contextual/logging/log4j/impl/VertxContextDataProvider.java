@@ -16,8 +16,11 @@
 package io.reactiverse.contextual.logging.log4j.impl;
 
 import io.reactiverse.contextual.logging.ContextualData;
+import io.reactiverse.contextual.logging.impl.ContextualDataImpl;
+import io.reactiverse.contextual.logging.impl.ContextualDataView;
 import org.apache.logging.log4j.core.util.ContextDataProvider;
 import org.apache.logging.log4j.util.BiConsumer;
+import org.apache.logging.log4j.util.IndexedStringMap;
 import org.apache.logging.log4j.util.ReadOnlyStringMap;
 import org.apache.logging.log4j.util.StringMap;
 import org.apache.logging.log4j.util.TriConsumer;
@@ -32,7 +35,7 @@ import java.util.Objects;
  */
 public class VertxContextDataProvider implements ContextDataProvider {
 
-  private static final FrozenStringMap EMPTY_FROZEN_STRING_MAP = new FrozenStringMap(Collections.emptyMap());
+  private static final ArrayStringMap EMPTY_STRING_MAP = new ArrayStringMap(new Object[0]);
 
   @Override
   public Map<String, String> supplyContextData() {
@@ -45,19 +48,29 @@ public class VertxContextDataProvider implements ContextDataProvider {
 
   @Override
   public StringMap supplyStringMap() {
-    Map<String, String> all = ContextualData.getAll();
-    if (all != null && !all.isEmpty()) {
-      return new FrozenStringMap(all);
+    // Values are not converted to String, so that layouts can render numbers and booleans natively
+    ContextualDataView view = ContextualDataImpl.view();
+    if (view == null || view.isEmpty()) {
+      return EMPTY_STRING_MAP;
     }
-    return EMPTY_FROZEN_STRING_MAP;
+    // The map is built once per version of the contextual data, log events then share it
+    return view.derive(ArrayStringMap.class, v -> new ArrayStringMap(v.sortedEntries()));
   }
 
-  private static class FrozenStringMap implements StringMap {
+  /**
+   * A frozen {@link StringMap} over the sorted entries of a {@link ContextualDataView}.
+   * <p>
+   * Iterations go by index and lookups are binary searches, so reading the map does not allocate,
+   * as required by the garbage-free mode of log4j2.
+   */
+  private static final class ArrayStringMap implements IndexedStringMap {
+
+    private static final long serialVersionUID = 1L;
 
-    final Map<String, String> delegate;
+    final Object[] entries;
 
-    FrozenStringMap(Map<String, String> delegate) {
-      this.delegate = delegate;
+    ArrayStringMap(Object[] entries) {
+      this.entries = entries;
     }
 
     @Override
@@ -91,20 +104,24 @@ public class VertxContextDataProvider implements ContextDataProvider {
 
     @Override
     public Map<String, String> toMap() {
-      return new HashMap<>(delegate);
+      Map<String, String> map = new HashMap<>();
+      for (int i = 0; i < entries.length; i += 2) {
+        map.put((String) entries[i], entries[i + 1].toString());
+      }
+      return map;
     }
 
     @Override
     public boolean containsKey(String key) {
-      return delegate.containsKey(key);
+      return indexOfKey(key) >= 0;
     }
 
     @SuppressWarnings("unchecked")
     @Override
     public <V> void forEach(BiConsumer<String, ? super V> action) {
       Objects.requireNonNull(action);
-      for (Map.Entry<String, String> entry : delegate.entrySet()) {
-        action.accept(entry.getKey(), (V) entry.getValue());
+      for (int i = 0; i < entries.length; i += 2) {
+        action.accept((String) entries[i], (V) entries[i + 1]);
       }
     }
 
@@ -112,25 +129,60 @@ public class VertxContextDataProvider implements ContextDataProvider {
     @Override
     public <V, S> void forEach(TriConsumer<String, ? super V, S> action, S state) {
       Objects.requireNonNull(action);
-      for (Map.Entry<String, String> entry : delegate.entrySet()) {
-        action.accept(entry.getKey(), (V) entry.getValue(), state);
+      for (int i = 0; i < entries.length; i += 2) {
+        action.accept((String) entries[i], (V) entries[i + 1], state);
       }
     }
 
-    @SuppressWarnings("unchecked")
     @Override
     public <V> V getValue(String key) {
-      return (V) delegate.get(key);
+      int index = indexOfKey(key);
+      return index >= 0 ? getValueAt(index) : null;
+    }
+
+    @Override
+    public String getKeyAt(int index) {
+      return (String) entries[2 * index];
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <V> V getValueAt(int index) {
+      return (V) entries[2 * index + 1];
+    }
+
+    /**
+     * @return the index of the {@code key}, or {@code -(insertion point) - 1} if absent, like {@link java.util.Arrays#binarySearch}
+     */
+    @Override
+    public int indexOfKey(String key) {
+      if (key == null) {
+        return -1;
+      }
+      int low = 0;
+      int high = size() - 1;
+      while (low <= high) {
+        int mid = (low + high) >>> 1;
+        int cmp = ((String) entries[2 * mid]).compareTo(key);
+        if (cmp < 0) {
+          low = mid + 1;
+        } else if (cmp > 0) {
+          high = mid - 1;
+        } else {
+          return mid;
+        }
+      }
+      return -(low + 1);
     }
 
     @Override
     public boolean isEmpty() {
-      return delegate.isEmpty();
+      return entries.length == 0;
     }
 
     @Override
     public int size() {
-      return delegate.size();
+      return entries.length / 2;
     }
   }
 }
@@ -18,8 +18,11 @@ module io.reactiverse.contextual.logging.log4j {
   requires io.reactiverse.contextual.logging;
   requires io.vertx.core;
   requires org.apache.logging.log4j.core;
+  requires java.management;
+  requires static org.apache.logging.log4j.layout.template.json;
 
-  exports io.reactiverse.contextual.logging.log4j to org.apache.logging.log4j.core;
+  exports io.reactiverse.contextual.logging.log4j to org.apache.logging.log4j.core, java.management, io.reactiverse.contextual.logging.log4j.tests;
+  exports io.reactiverse.contextual.logging.log4j.impl to org.apache.logging.log4j.core, io.reactiverse.contextual.logging.log4j.tests;
 
   provides org.apache.logging.log4j.core.util.ContextDataProvider with io.reactiverse.contextual.logging.log4j.impl.VertxContextDataProvider;
 }
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.reactiverse.contextual.logging.log4j.tests;
+
+import io.reactiverse.contextual.logging.ContextualData;
+import io.reactiverse.contextual.logging.log4j.Log4j2Converter;
+import io.reactiverse.contextual.logging.log4j.Log4j2Lookup;
+import io.reactiverse.contextual.logging.log4j.Log4j2ThresholdFilter;
+import io.reactiverse.contextual.logging.log4j.impl.VertxContextDataInjector;
+import io.reactiverse.contextual.logging.log4j.impl.VertxContextDataProvider;
+import io.reactiverse.contextual.logging.tests.AllocationMeter;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.test.core.VertxTestBase;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.core.Filter.Result;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.core.util.Constants;
+import org.apache.logging.log4j.core.util.KeyValuePair;
+import org.apache.logging.log4j.util.PropertiesUtil;
+import org.apache.logging.log4j.util.SortedArrayStringMap;
+import org.junit.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Allocation budgets of the Log4j2 converter, lookup, filter, context data provider and context data injector hot paths.
+ */
+public class Log4j2AllocationIT extends VertxTestBase {
+
+  /**
+   * Values, including primitive ones, are appended to the layout buffer without any allocation.
+   */
+  private static final long CONVERTERS_BUDGET = 0;
+
+  /**
+   * The string map supplied by the provider is shared by the log events until the contextual data is modified,
+   * and copying it in a reusable map, as the garbage-free mode of log4j2 does, iterates by index.
+   */
+  private static final long PROVIDER_BUDGET = 0;
+
+  /**
+   * In the garbage-free mode of log4j2, the log event and the message are reused, and the context data of the provider
+   * is copied in the reusable map of the event.
+   */
+  private static final long LOGGER_BUDGET = 0;
+
+  /**
+   * The injector writes the entries straight into the reusable map of the event.
+   */
+  private static final long INJECTOR_BUDGET = 0;
+
+  /**
+   * String values are returned as is.
+   */
+  private static final long LOOKUP_BUDGET = 0;
+
+  /**
+   * The filter is evaluated before the log event is built, with a contextual data read and a hash lookup,
+   * also for {@code long} values.
+   */
+  private static final long FILTER_BUDGET = 0;
+
+  private ContextInternal context;
+
+  @Override
+  public void setUp() throws Exception {
+    super.setUp();
+    context = ((ContextInternal) vertx.getOrCreateContext()).duplicate();
+    context.dispatch(() -> {
+      ContextualData.put("requestId", "foo");
+      ContextualData.putLong("attempt", 3);
+    });
+  }
+
+  @Test
+  public void testConverters() {
+    Log4j2Converter requestId = Log4j2Converter.newInstance(new String[]{"requestId"});
+    Log4j2Converter attempt = Log4j2Converter.newInstance(new String[]{"attempt"});
+    Log4j2Converter missing = Log4j2Converter.newInstance(new String[]{"missing:-none"});
+    LogEvent event = Log4jLogEvent.newBuilder().build();
+    StringBuilder sb = new StringBuilder(256);
+    long allocated = AllocationMeter.bytesPerOperation(context, () -> {
+      sb.setLength(0);
+      requestId.format(event, sb);
+      attempt.format(event, sb);
+      missing.format(event, sb);
+    });
+    assertEquals("foo3none", sb.toString());
+    assertTrue("Converters allocated " + allocated + " bytes per event", allocated <= CONVERTERS_BUDGET);
+  }
+
+  @Test
+  public void testKeyValueConverters() {
+    Log4j2Converter keys = Log4j2Converter.newInstance(new String[]{"requestId,attempt,missing:-none"});
+    Log4j2Converter allKeys = Log4j2Converter.newInstance(null);
+    LogEvent event = Log4jLogEvent.newBuilder().build();
+    StringBuilder sb = new StringBuilder(256);
+    long allocated = AllocationMeter.bytesPerOperation(context, () -> {
+      sb.setLength(0);
+      keys.format(event, sb);
+      sb.append(' ');
+      allKeys.format(event, sb);
+    });
+    assertEquals("requestId=foo attempt=3 missing=none attempt=3 requestId=foo", sb.toString());
+    assertTrue("Converters allocated " + allocated + " bytes per event", allocated <= CONVERTERS_BUDGET);
+  }
+
+  @Test
+  public void testContextDataProvider() {
+    VertxContextDataProvider provider = new VertxContextDataProvider();
+    SortedArrayStringMap reusable = new SortedArrayStringMap(16);
+    long allocated = AllocationMeter.bytesPerOperation(context, () -> {
+      reusable.clear();
+      reusable.putAll(provider.supplyStringMap());
+    });
+    assertEquals(2, reusable.size());
+    assertEquals("foo", reusable.getValue("requestId"));
+    assertTrue("Provider allocated " + allocated + " bytes per event", allocated <= PROVIDER_BUDGET);
+  }
+
+  @Test
+  public void testLoggerWithContextDataProvider() throws Exception {
+    assumeTrue("Requires the garbage-free mode of log4j2", Constants.ENABLE_THREADLOCALS && Constants.ENABLE_DIRECT_ENCODERS
+      && PropertiesUtil.getProperties().getBooleanProperty("log4j2.garbagefreeThreadContextMap"));
+    Path logFile = Paths.get("target", Log4j2AllocationIT.class.getSimpleName() + ".log");
+    LoggerContext loggerContext = new LoggerContext("garbage-free", null, Paths.get("src", "test", "log4j2", "garbage-free", "log4j2.xml").toUri());
+    loggerContext.start();
+    long allocated;
+    try {
+      Logger logger = loggerContext.getLogger(Log4j2AllocationIT.class.getName());
+      allocated = AllocationMeter.bytesPerOperation(context, () -> logger.info("Hello {}", "World"));
+    } finally {
+      loggerContext.stop();
+    }
+    List<String> lines = Files.readAllLines(logFile);
+    assertEquals("foo 3 ### Hello World", lines.get(lines.size() - 1));
+    assertTrue("Logger allocated " + allocated + " bytes per event", allocated <= LOGGER_BUDGET);
+  }
+
+  @Test
+  public void testContextDataInjector() {
+    VertxContextDataInjector injector = new VertxContextDataInjector();
+    SortedArrayStringMap reusable = new SortedArrayStringMap(16);
+    long allocated = AllocationMeter.bytesPerOperation(context, () -> {
+      reusable.clear();
+      injector.injectContextData(null, reusable);
+    });
+    assertEquals(2, reusable.size());
+    assertEquals("foo", reusable.getValue("requestId"));
+    assertTrue("Injector allocated " + allocated + " bytes per event", allocated <= INJECTOR_BUDGET);
+  }
+
+  @Test
+  public void testLookup() {
+    Log4j2Lookup lookup = new Log4j2Lookup();
+    LogEvent event = Log4jLogEvent.newBuilder().build();
+    String[] value = new String[1];
+    long allocated = AllocationMeter.bytesPerOperation(context, () -> value[0] = lookup.lookup(event, "requestId"));
+    assertEquals("foo", value[0]);
+    assertTrue("Lookup allocated " + allocated + " bytes per event", allocated <= LOOKUP_BUDGET);
+  }
+
+  @Test
+  public void testThresholdFilter() {
+    Log4j2ThresholdFilter matching = Log4j2ThresholdFilter.createFilter("requestId", new KeyValuePair[]{new KeyValuePair("foo", "DEBUG")}, null, Result.ACCEPT, Result.NEUTRAL);
+    Log4j2ThresholdFilter other = Log4j2ThresholdFilter.createFilter("requestId", new KeyValuePair[]{new KeyValuePair("bar", "DEBUG")}, null, Result.ACCEPT, Result.NEUTRAL);
+    Log4j2ThresholdFilter attempt = Log4j2ThresholdFilter.createFilter("attempt", new KeyValuePair[]{new KeyValuePair("3", "DEBUG")}, null, Result.ACCEPT, Result.NEUTRAL);
+    Result[] results = new Result[3];
+    long allocated = AllocationMeter.bytesPerOperation(context, () -> {
+      results[0] = matching.filter(null, Level.DEBUG, null, "Hello {}", "World");
+      results[1] = other.filter(null, Level.DEBUG, null, "Hello {}", "World");
+      results[2] = attempt.filter(null, Level.DEBUG, null, "Hello {}", "World");
+    });
+    assertEquals(Result.ACCEPT, results[0]);
+    assertEquals(Result.NEUTRAL, results[1]);
+    assertEquals(Result.ACCEPT, results[2]);
+    assertTrue("Filter allocated " + allocated + " bytes per event", allocated <= FILTER_BUDGET);
+  }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.reactiverse.contextual.logging.log4j.tests;
+
+import io.reactiverse.contextual.logging.ContextualData;
+import io.reactiverse.contextual.logging.log4j.impl.VertxContextDataInjector;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.test.core.VertxTestBase;
+import org.apache.logging.log4j.ThreadContext;
+import org.apache.logging.log4j.core.config.Property;
+import org.apache.logging.log4j.util.ReadOnlyStringMap;
+import org.apache.logging.log4j.util.SortedArrayStringMap;
+import org.apache.logging.log4j.util.StringMap;
+import org.junit.Test;
+
+import java.util.List;
+
+public class Log4j2ContextDataInjectorIT extends VertxTestBase {
+
+  private final VertxContextDataInjector injector = new VertxContextDataInjector();
+  private ContextInternal context;
+
+  @Override
+  public void setUp() throws Exception {
+    super.setUp();
+    context = ((ContextInternal) vertx.getOrCreateContext()).duplicate();
+    context.dispatch(() -> {
+      ContextualData.put("requestId", "foo");
+      ContextualData.putLong("attempt", 3);
+    });
+  }
+
+  @Override
+  protected void tearDown() throws Exception {
+    ThreadContext.clearMap();
+    super.tearDown();
+  }
+
+  @Test
+  public void testInjectContextData() {
+    StringMap reusable = new SortedArrayStringMap();
+    List<Property> properties = List.of(Property.createProperty("service", "orders"));
+    StringMap[] injected = new StringMap[1];
+    context.dispatch(() -> injected[0] = injector.injectContextData(properties, reusable));
+    assertSame(reusable, injected[0]);
+    assertEquals(3, reusable.size());
+    assertEquals("orders", reusable.getValue("service"));
+    assertEquals("foo", reusable.getValue("requestId"));
+    assertEquals(3L, (Object) reusable.getValue("attempt"));
+  }
+
+  @Test
+  public void testMergeThreadContext() {
+    StringMap reusable = new SortedArrayStringMap();
+    ReadOnlyStringMap[] raw = new ReadOnlyStringMap[1];
+    ThreadContext.put("tenant", "acme");
+    ThreadContext.put("requestId", "bar");
+    context.dispatch(() -> {
+      injector.injectContextData(null, reusable);
+      raw[0] = injector.rawContextData();
+    });
+    assertEquals(3, raw[0].size());
+    assertEquals("acme", raw[0].getValue("tenant"));
+    assertEquals("foo", raw[0].getValue("requestId"));
+    assertEquals(3, reusable.size());
+    assertEquals(3L, (Object) reusable.getValue("attempt"));
+    assertEquals("acme", reusable.getValue("tenant"));
+    assertEquals("foo", reusable.getValue("requestId"));
+  }
+
+  @Test
+  public void testNonVertxThread() {
+    StringMap reusable = new SortedArrayStringMap();
+    injector.injectContextData(null, reusable);
+    assertTrue(reusable.isEmpty());
+    assertTrue(injector.rawContextData().isEmpty());
+    ThreadContext.put("tenant", "acme");
+    injector.injectContextData(null, reusable);
+    assertEquals(1, reusable.size());
+    assertEquals("acme", reusable.getValue("tenant"));
+    assertEquals("acme", injector.rawContextData().getValue("tenant"));
+  }
+}
@@ -19,4 +19,10 @@ package io.reactiverse.contextual.logging.log4j.tests;
 import io.reactiverse.contextual.logging.tests.ContextualLoggingIT;
 
 public class Log4j2ContextualLoggingIT extends ContextualLoggingIT {
+
+  @Override
+  protected int requests() {
+    // Many events in flight, so that async loggers and appenders format them long after the request handlers returned
+    return 500;
+  }
 }
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.reactiverse.contextual.logging.log4j.tests;
+
+import io.reactiverse.contextual.logging.ContextualData;
+import io.reactiverse.contextual.logging.log4j.Log4j2Converter;
+import io.reactiverse.contextual.logging.log4j.impl.VertxContextDataProvider;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.test.core.VertxTestBase;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.util.SortedArrayStringMap;
+import org.junit.Test;
+
+public class Log4j2ConverterIT extends VertxTestBase {
+
+  private final LogEvent event = Log4jLogEvent.newBuilder().build();
+  private ContextInternal context;
+
+  @Override
+  public void setUp() throws Exception {
+    super.setUp();
+    context = ((ContextInternal) vertx.getOrCreateContext()).duplicate();
+    context.dispatch(() -> {
+      ContextualData.put("requestId", "foo");
+      ContextualData.put("user", "John Doe");
+      ContextualData.putLong("attempt", 3);
+    });
+  }
+
+  private String format(String... options) {
+    Log4j2Converter converter = Log4j2Converter.newInstance(options);
+    StringBuilder sb = new StringBuilder();
+    context.dispatch(() -> converter.format(event, sb));
+    return sb.toString();
+  }
+
+  @Test
+  public void testSingleKey() {
+    assertEquals("foo", format("requestId"));
+    assertEquals("none", format("tenant:-none"));
+  }
+
+  @Test
+  public void testKeyList() {
+    assertEquals("requestId=foo attempt=3 user=\"John Doe\"", format("requestId,tenant,attempt,user"));
+    assertEquals("requestId=foo tenant=none", format("requestId, tenant:-none"));
+  }
+
+  @Test
+  public void testAllKeys() {
+    assertEquals("attempt=3 requestId=foo user=\"John Doe\"", format());
+    assertEquals("attempt=3 requestId=foo user=\"John Doe\"", format(""));
+  }
+
+  @Test
+  public void testSettings() {
+    assertEquals("requestId=foo, user=John Doe", format("requestId,user", "separator=, ", "quote=never"));
+    assertEquals("requestId=\"foo\" attempt=\"3\"", format("requestId,attempt", "quote=always"));
+    context.dispatch(() -> ContextualData.put("user", "\"x\\y\""));
+    assertEquals("user=\"\\\"x\\\\y\\\"\"", format("user,missing"));
+  }
+
+  @Test
+  public void testControlCharacters() {
+    context.dispatch(() -> ContextualData.put("user", "x\n2026-01-01 ERROR forged\r\t\u0000\u001b"));
+    String escaped = "x\\n2026-01-01 ERROR forged\\r\\t\\u0000\\u001b";
+    assertEquals("user=\"" + escaped + "\"", format("user,missing"));
+    assertEquals("user=\"" + escaped + "\"", format("user", "quote=always"));
+    assertEquals("user=" + escaped, format("user", "quote=never"));
+  }
+
+  @Test
+  public void testSingleKeySettings() {
+    assertEquals("requestId=\"foo\"", format("requestId", "quote=always"));
+    assertEquals("tenant=none", format("tenant:-none", "quote=never"));
+    try {
+      format("requestId", "quote=sometimes");
+      fail();
+    } catch (IllegalArgumentException expected) {
+    }
+  }
+
+  @Test
+  public void testNonVertxThread() {
+    StringBuilder sb = new StringBuilder();
+    Log4j2Converter.newInstance(new String[]{"requestId:-foobar,user"}).format(event, sb);
+    assertEquals("requestId=foobar", sb.toString());
+    sb.setLength(0);
+    Log4j2Converter.newInstance(null).format(event, sb);
+    assertEquals("", sb.toString());
+  }
+
+  @Test
+  public void testCapturedContextData() {
+    // The event is created on the Vert.x thread, as the async loggers do, and formatted on another thread
+    SortedArrayStringMap contextData = new SortedArrayStringMap();
+    context.dispatch(() -> contextData.putAll(new VertxContextDataProvider().supplyStringMap()));
+    LogEvent captured = Log4jLogEvent.newBuilder().setContextData(contextData).build();
+    StringBuilder sb = new StringBuilder();
+    Log4j2Converter.newInstance(new String[]{"requestId"}).format(captured, sb);
+    assertEquals("foo", sb.toString());
+    sb.setLength(0);
+    Log4j2Converter.newInstance(new String[]{"tenant:-none"}).format(captured, sb);
+    assertEquals("none", sb.toString());
+    sb.setLength(0);
+    Log4j2Converter.newInstance(new String[]{"requestId,tenant,attempt"}).format(captured, sb);
+    assertEquals("requestId=foo attempt=3", sb.toString());
+    sb.setLength(0);
+    Log4j2Converter.newInstance(null).format(captured, sb);
+    assertEquals("attempt=3 requestId=foo user=\"John Doe\"", sb.toString());
+  }
+
+  @Test
+  public void testCapturedThreadContextData() {
+    // Thread context and configuration properties entries, whose names are not contextual data keys
+    SortedArrayStringMap contextData = new SortedArrayStringMap();
+    contextData.putValue("requestId", "foo");
+    contextData.putValue("threadContextOnly", "bar");
+    LogEvent captured = Log4jLogEvent.newBuilder().setContextData(contextData).build();
+    StringBuilder sb = new StringBuilder();
+    Log4j2Converter.newInstance(null).format(captured, sb);
+    assertEquals("requestId=foo", sb.toString());
+    sb.setLength(0);
+    Log4j2Converter.newInstance(new String[]{"threadContextOnly"}).format(captured, sb);
+    assertEquals("bar", sb.toString());
+  }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.reactiverse.contextual.logging.log4j.tests;
+
+import io.reactiverse.contextual.logging.ContextualData;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.test.core.VertxTestBase;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.config.DefaultConfiguration;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.layout.template.json.JsonTemplateLayout;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.apache.logging.log4j.util.SortedArrayStringMap;
+import org.junit.Test;
+
+import java.lang.ref.WeakReference;
+
+public class Log4j2JsonResolverIT extends VertxTestBase {
+
+  private final LogEvent event = Log4jLogEvent.newBuilder().setMessage(new SimpleMessage("Hello")).build();
+  private ContextInternal context;
+
+  @Override
+  public void setUp() throws Exception {
+    super.setUp();
+    context = ((ContextInternal) vertx.getOrCreateContext()).duplicate();
+    context.dispatch(() -> {
+      ContextualData.put("requestId", "foo");
+      ContextualData.put("user", "John \"JD\" Doe");
+      ContextualData.putLong("attempt", 3);
+    });
+  }
+
+  private static JsonTemplateLayout layout(String eventTemplate) {
+    return JsonTemplateLayout.newBuilder()
+      .setConfiguration(new DefaultConfiguration())
+      .setEventTemplate(eventTemplate)
+      .build();
+  }
+
+  private String format(String eventTemplate) {
+    JsonTemplateLayout layout = layout(eventTemplate);
+    String[] json = new String[1];
+    context.dispatch(() -> json[0] = layout.toSerializable(event));
+    return json[0].trim();
+  }
+
+  @Test
+  public void testAllKeys() {
+    assertEquals("{\"ctx\":{\"attempt\":3,\"requestId\":\"foo\",\"user\":\"John \\\"JD\\\" Doe\"}}",
+      format("{\"ctx\":{\"$resolver\":\"vertxContext\"}}"));
+  }
+
+  @Test
+  public void testSingleKey() {
+    assertEquals("{\"requestId\":\"foo\",\"attempt\":3}",
+      format("{\"requestId\":{\"$resolver\":\"vertxContext\",\"key\":\"requestId\"},\"attempt\":{\"$resolver\":\"vertxContext\",\"key\":\"attempt\"}}"));
+  }
+
+  @Test
+  public void testAbsentKey() {
+    assertEquals("{\"message\":\"Hello\",\"requestId\":\"foo\"}",
+      format("{\"message\":{\"$resolver\":\"message\"},\"tenant\":{\"$resolver\":\"vertxContext\",\"key\":\"tenant\"},\"requestId\":{\"$resolver\":\"vertxContext\",\"key\":\"requestId\"}}"));
+    assertEquals("{\"message\":\"Hello\"}",
+      format("{\"message\":{\"$resolver\":\"message\"},\"ctx\":{\"$resolver\":\"vertxContext\",\"keys\":[\"tenant\"]}}"));
+  }
+
+  @Test
+  public void testKeyList() {
+    assertEquals("{\"ctx\":{\"attempt\":3,\"requestId\":\"foo\"}}",
+      format("{\"ctx\":{\"$resolver\":\"vertxContext\",\"keys\":[\"attempt\",\"missing\",\"requestId\"]}}"));
+  }
+
+  @Test
+  public void testFlattenStringified() {
+    assertEquals("{\"message\":\"Hello\",\"attempt\":\"3\",\"requestId\":\"foo\"}",
+      format("{\"message\":{\"$resolver\":\"message\"},\"ctx\":{\"$resolver\":\"vertxContext\",\"keys\":[\"attempt\",\"requestId\"],\"flatten\":true,\"stringified\":true}}"));
+  }
+
+  @Test
+  public void testDoesNotRetainEvent() throws Exception {
+    JsonTemplateLayout layout = layout("{\"ctx\":{\"$resolver\":\"vertxContext\"}}");
+    WeakReference<LogEvent> encoded = encode(layout);
+    for (int i = 0; i < 10 && encoded.get() != null; i++) {
+      System.gc();
+      Thread.sleep(10);
+    }
+    assertTrue("The resolver retains the last encoded event", encoded.get() == null);
+  }
+
+  private WeakReference<LogEvent> encode(JsonTemplateLayout layout) {
+    LogEvent event = Log4jLogEvent.newBuilder().setMessage(new SimpleMessage("Hello")).build();
+    String[] json = new String[1];
+    context.dispatch(() -> json[0] = layout.toSerializable(event));
+    assertEquals("{\"ctx\":{\"attempt\":3,\"requestId\":\"foo\",\"user\":\"John \\\"JD\\\" Doe\"}}", json[0].trim());
+    return new WeakReference<>(event);
+  }
+
+  @Test
+  public void testCapturedContextData() {
+    SortedArrayStringMap contextData = new SortedArrayStringMap();
+    contextData.putValue("requestId", "bar");
+    contextData.putValue("attempt", 5L);
+    LogEvent captured = Log4jLogEvent.newBuilder().setMessage(new SimpleMessage("Hello")).setContextData(contextData).build();
+    assertEquals("{\"ctx\":{\"attempt\":5,\"requestId\":\"bar\"}}",
+      layout("{\"ctx\":{\"$resolver\":\"vertxContext\"}}").toSerializable(captured).trim());
+  }
+
+  @Test
+  public void testCapturedThreadContextData() {
+    // Thread context and configuration properties entries, whose names are not contextual data keys
+    SortedArrayStringMap contextData = new SortedArrayStringMap();
+    contextData.putValue("requestId", "bar");
+    contextData.putValue("threadContextOnly", "baz");
+    LogEvent captured = Log4jLogEvent.newBuilder().setMessage(new SimpleMessage("Hello")).setContextData(contextData).build();
+    assertEquals("{\"ctx\":{\"requestId\":\"bar\"}}",
+      layout("{\"ctx\":{\"$resolver\":\"vertxContext\"}}").toSerializable(captured).trim());
+    contextData = new SortedArrayStringMap();
+    contextData.putValue("threadContextOnly", "baz");
+    captured = Log4jLogEvent.newBuilder().setMessage(new SimpleMessage("Hello")).setContextData(contextData).build();
+    assertEquals("{\"message\":\"Hello\"}",
+      layout("{\"message\":{\"$resolver\":\"message\"},\"ctx\":{\"$resolver\":\"vertxContext\"}}").toSerializable(captured).trim());
+  }
+}
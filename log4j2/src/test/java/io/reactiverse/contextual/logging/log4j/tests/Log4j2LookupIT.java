@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.reactiverse.contextual.logging.log4j.tests;
+
+import io.reactiverse.contextual.logging.ContextualData;
+import io.reactiverse.contextual.logging.log4j.Log4j2Lookup;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.test.core.VertxTestBase;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.util.SortedArrayStringMap;
+import org.junit.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+public class Log4j2LookupIT extends VertxTestBase {
+
+  private static final List<String> TENANTS = List.of("acme", "globex", "unknown");
+
+  private final Log4j2Lookup lookup = new Log4j2Lookup();
+  private ContextInternal context;
+  private LoggerContext loggerContext;
+
+  @Override
+  public void setUp() throws Exception {
+    super.setUp();
+    context = ((ContextInternal) vertx.getOrCreateContext()).duplicate();
+    context.dispatch(() -> ContextualData.put("requestId", "foo"));
+  }
+
+  @Override
+  protected void tearDown() throws Exception {
+    if (loggerContext != null) {
+      loggerContext.stop();
+    }
+    for (String tenant : TENANTS) {
+      Files.deleteIfExists(logFile(tenant));
+    }
+    super.tearDown();
+  }
+
+  private static Path logFile(String tenant) {
+    return Paths.get("target", Log4j2LookupIT.class.getSimpleName() + "-" + tenant + ".log");
+  }
+
+  @Test
+  public void testLookup() {
+    String[] values = new String[2];
+    context.dispatch(() -> {
+      values[0] = lookup.lookup("requestId");
+      values[1] = lookup.lookup("missing");
+    });
+    assertEquals("foo", values[0]);
+    assertNull(values[1]);
+    assertNull(lookup.lookup("requestId"));
+  }
+
+  @Test
+  public void testCapturedContextData() {
+    SortedArrayStringMap contextData = new SortedArrayStringMap();
+    contextData.putValue("requestId", "bar");
+    assertEquals("bar", lookup.lookup(Log4jLogEvent.newBuilder().setContextData(contextData).build(), "requestId"));
+    assertNull(lookup.lookup(Log4jLogEvent.newBuilder().build(), "requestId"));
+  }
+
+  @Test
+  public void testRouting() throws Exception {
+    loggerContext = new LoggerContext("routing", null, Paths.get("src", "test", "log4j2", "routing", "log4j2.xml").toUri());
+    loggerContext.start();
+    Logger logger = loggerContext.getLogger(Log4j2LookupIT.class.getName());
+    for (String tenant : List.of("acme", "globex", "acme")) {
+      ContextInternal duplicate = ((ContextInternal) vertx.getOrCreateContext()).duplicate();
+      duplicate.dispatch(() -> {
+        ContextualData.put("tenant", tenant);
+        logger.info("Hello " + tenant);
+      });
+    }
+    logger.info("Hello stranger");
+    assertEquals(List.of("Hello acme", "Hello acme"), Files.readAllLines(logFile("acme")));
+    assertEquals(List.of("Hello globex"), Files.readAllLines(logFile("globex")));
+    assertEquals(List.of("Hello stranger"), Files.readAllLines(logFile("unknown")));
+  }
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.reactiverse.contextual.logging.log4j.tests;
+
+import io.reactiverse.contextual.logging.ContextualData;
+import io.reactiverse.contextual.logging.log4j.Log4j2ThresholdFilter;
+import io.reactiverse.contextual.logging.log4j.Log4j2ThresholdFilterMXBean;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.test.core.VertxTestBase;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.core.Filter.Result;
+import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.core.util.KeyValuePair;
+import org.apache.logging.log4j.util.SortedArrayStringMap;
+import org.junit.Test;
+
+import javax.management.JMX;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+
+public class Log4j2ThresholdFilterIT extends VertxTestBase {
+
+  private static final Path LOG_FILE = Paths.get("target", Log4j2ThresholdFilterIT.class.getSimpleName() + ".log");
+  private static final String TENANT_FILTERS = Log4j2ThresholdFilterMXBean.OBJECT_NAME_PREFIX + ObjectName.quote("tenant") + ",*";
+
+  private Log4j2ThresholdFilter filter;
+  private ContextInternal acme;
+  private ContextInternal globex;
+  private LoggerContext loggerContext;
+
+  @Override
+  public void setUp() throws Exception {
+    super.setUp();
+    filter = Log4j2ThresholdFilter.createFilter("tenant", new KeyValuePair[]{new KeyValuePair("acme", "DEBUG")}, Level.INFO, Result.ACCEPT, Result.NEUTRAL);
+    acme = tenantContext("acme");
+    globex = tenantContext("globex");
+  }
+
+  @Override
+  protected void tearDown() throws Exception {
+    filter.stop();
+    if (loggerContext != null) {
+      loggerContext.stop();
+    }
+    Files.deleteIfExists(LOG_FILE);
+    super.tearDown();
+  }
+
+  private ContextInternal tenantContext(String tenant) {
+    ContextInternal context = ((ContextInternal) vertx.getOrCreateContext()).duplicate();
+    context.dispatch(() -> ContextualData.put("tenant", tenant));
+    return context;
+  }
+
+  private Result filter(ContextInternal context, Level level) {
+    Result[] result = new Result[1];
+    context.dispatch(() -> result[0] = filter.filter(null, level, null, "Hello {}", "World"));
+    return result[0];
+  }
+
+  @Test
+  public void testThresholds() {
+    assertEquals(Result.ACCEPT, filter(acme, Level.DEBUG));
+    assertEquals(Result.NEUTRAL, filter(acme, Level.TRACE));
+    assertEquals(Result.NEUTRAL, filter(globex, Level.DEBUG));
+    assertEquals(Result.ACCEPT, filter(globex, Level.INFO));
+    assertEquals(Result.NEUTRAL, filter.filter(null, Level.DEBUG, null, "Hello {}", "World"));
+  }
+
+  @Test
+  public void testLogEvent() {
+    SortedArrayStringMap contextData = new SortedArrayStringMap();
+    contextData.putValue("tenant", "acme");
+    assertEquals(Result.ACCEPT, filter.filter(Log4jLogEvent.newBuilder().setLevel(Level.DEBUG).setContextData(contextData).build()));
+    assertEquals(Result.NEUTRAL, filter.filter(Log4jLogEvent.newBuilder().setLevel(Level.DEBUG).build()));
+  }
+
+  @Test
+  public void testTypedValues() {
+    Log4j2ThresholdFilter tier = Log4j2ThresholdFilter.createFilter("tier", new KeyValuePair[]{
+      new KeyValuePair("3", "DEBUG"), new KeyValuePair("3000000000", "DEBUG"), new KeyValuePair("true", "DEBUG"), new KeyValuePair("07", "DEBUG")
+    }, Level.INFO, Result.ACCEPT, Result.NEUTRAL);
+    ContextInternal context = ((ContextInternal) vertx.getOrCreateContext()).duplicate();
+    Result[] results = new Result[6];
+    context.dispatch(() -> {
+      ContextualData.putLong("tier", 3);
+      results[0] = tier.filter(null, Level.DEBUG, null, "Hello {}", "World");
+      ContextualData.putInt("tier", 3);
+      results[1] = tier.filter(null, Level.DEBUG, null, "Hello {}", "World");
+      ContextualData.putLong("tier", 3_000_000_000L);
+      results[2] = tier.filter(null, Level.DEBUG, null, "Hello {}", "World");
+      ContextualData.putBoolean("tier", true);
+      results[3] = tier.filter(null, Level.DEBUG, null, "Hello {}", "World");
+      ContextualData.putInt("tier", 7);
+      results[4] = tier.filter(null, Level.DEBUG, null, "Hello {}", "World");
+      ContextualData.putInt("tier", 4);
+      results[5] = tier.filter(null, Level.DEBUG, null, "Hello {}", "World");
+    });
+    assertEquals(List.of(Result.ACCEPT, Result.ACCEPT, Result.ACCEPT, Result.ACCEPT, Result.NEUTRAL, Result.NEUTRAL), List.of(results));
+    tier.setThreshold("4", Level.DEBUG);
+    context.dispatch(() -> results[5] = tier.filter(null, Level.DEBUG, null, "Hello {}", "World"));
+    assertEquals(Result.ACCEPT, results[5]);
+  }
+
+  @Test
+  public void testSetThreshold() {
+    filter.setThreshold("globex", Level.TRACE);
+    assertEquals(Result.ACCEPT, filter(globex, Level.TRACE));
+    filter.removeThreshold("globex");
+    filter.removeThreshold("acme");
+    assertEquals(Result.NEUTRAL, filter(globex, Level.TRACE));
+    assertEquals(Result.NEUTRAL, filter(acme, Level.DEBUG));
+  }
+
+  @Test
+  public void testMXBean() throws Exception {
+    filter.start();
+    MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    ObjectName name = new ObjectName(filter.getObjectName());
+    Log4j2ThresholdFilterMXBean mxBean = JMX.newMXBeanProxy(server, name, Log4j2ThresholdFilterMXBean.class);
+    assertEquals("tenant", mxBean.getKey());
+    assertEquals("INFO", mxBean.getDefaultThreshold());
+    assertEquals(Map.of("acme", "DEBUG"), mxBean.getThresholds());
+    mxBean.setThreshold("globex", "DEBUG");
+    assertEquals(Result.ACCEPT, filter(globex, Level.DEBUG));
+    mxBean.removeThreshold("globex");
+    assertEquals(Result.NEUTRAL, filter(globex, Level.DEBUG));
+    filter.stop();
+    assertFalse(server.isRegistered(name));
+  }
+
+  @Test
+  public void testSameKey() throws Exception {
+    Log4j2ThresholdFilter other = Log4j2ThresholdFilter.createFilter("tenant", null, Level.WARN, Result.ACCEPT, Result.NEUTRAL);
+    filter.start();
+    other.start();
+    try {
+      MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+      assertTrue(server.isRegistered(new ObjectName(filter.getObjectName())));
+      assertTrue(server.isRegistered(new ObjectName(other.getObjectName())));
+      assertEquals(2, server.queryNames(new ObjectName(TENANT_FILTERS), null).size());
+    } finally {
+      other.stop();
+    }
+    assertTrue(ManagementFactory.getPlatformMBeanServer().isRegistered(new ObjectName(filter.getObjectName())));
+  }
+
+  @Test
+  public void testQuotedKey() throws Exception {
+    Log4j2ThresholdFilter other = Log4j2ThresholdFilter.createFilter("tenant,id=0:*", null, Level.WARN, Result.ACCEPT, Result.NEUTRAL);
+    other.start();
+    try {
+      MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+      ObjectName name = new ObjectName(other.getObjectName());
+      assertTrue(server.isRegistered(name));
+      assertEquals("tenant,id=0:*", ObjectName.unquote(name.getKeyProperty("key")));
+    } finally {
+      other.stop();
+    }
+  }
+
+  @Test
+  public void testConfiguration() throws Exception {
+    loggerContext = new LoggerContext("threshold", null, Paths.get("src", "test", "log4j2", "threshold", "log4j2.xml").toUri());
+    loggerContext.start();
+    // The context-wide filter and the appender filter
+    MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    assertEquals(2, server.queryNames(new ObjectName(TENANT_FILTERS), null).size());
+    Logger logger = loggerContext.getLogger(Log4j2ThresholdFilterIT.class.getName());
+    for (ContextInternal context : List.of(acme, globex)) {
+      context.dispatch(() -> {
+        String tenant = ContextualData.get("tenant");
+        logger.debug(tenant + " DEBUG");
+        logger.info(tenant + " INFO");
+        logger.warn(tenant + " WARN");
+      });
+    }
+    logger.info("none INFO");
+    logger.warn("none WARN");
+    assertEquals(List.of("acme INFO", "acme WARN", "globex WARN", "none WARN"), Files.readAllLines(LOG_FILE));
+    loggerContext.stop();
+    loggerContext = null;
+    assertTrue(server.queryNames(new ObjectName(TENANT_FILTERS), null).isEmpty());
+  }
+}
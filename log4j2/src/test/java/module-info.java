@@ -14,7 +14,15 @@
  * under the License.
  */
 
-open module io.reactiverse.contextual.logging.logback.tests {
+open module io.reactiverse.contextual.logging.log4j.tests {
   requires io.reactiverse.contextual.logging.log4j;
   requires io.reactiverse.contextual.logging.tests;
+  requires io.reactiverse.contextual.logging;
+  requires io.vertx.core;
+  requires io.vertx.core.tests;
+  requires org.apache.logging.log4j;
+  requires org.apache.logging.log4j.core;
+  requires org.apache.logging.log4j.layout.template.json;
+  requires java.management;
+  requires junit;
 }
@@ -18,18 +18,28 @@ package io.reactiverse.contextual.logging.logback;
 
 import ch.qos.logback.classic.pattern.ClassicConverter;
 import ch.qos.logback.classic.spi.ILoggingEvent;
-import io.reactiverse.contextual.logging.ContextualData;
-import io.vertx.core.internal.ContextInternal;
+import ch.qos.logback.core.pattern.Converter;
+import io.reactiverse.contextual.logging.ContextualKey;
+import io.reactiverse.contextual.logging.impl.ContextualDataImpl;
+import io.reactiverse.contextual.logging.impl.ContextualDataView;
 
 import static ch.qos.logback.core.util.OptionHelper.extractDefaultReplacement;
 
 /**
  * Contextual data converter for Logback.
+ * <p>
+ * When a layout contains several converters, the first one resolves the contextual data once per event,
+ * and the next ones read their key from the same view instead of looking up the context again.
+ * The view is shared through a holder reused by the formatting thread, so that no object is allocated per event,
+ * and the last converter of the layout clears the holder, so that it does not retain the event once formatted.
  */
 public class LogbackConverter extends ClassicConverter {
 
-  private String key;
+  private ContextualKey<Object> key;
   private String defaultValue;
+  private LogbackConverter leader;
+  private boolean last;
+  private ThreadLocal<Resolution> resolutions;
 
   public LogbackConverter() {
     reset();
@@ -38,30 +48,91 @@ public class LogbackConverter extends ClassicConverter {
   private void reset() {
     key = null;
     defaultValue = "";
+    leader = null;
+    last = false;
+    resolutions = null;
   }
 
   @Override
   public void start() {
     String[] keyInfo = extractDefaultReplacement(getFirstOption());
-    key = keyInfo[0];
+    if (keyInfo[0] != null) {
+      key = ContextualKey.register(keyInfo[0], Object.class);
+    }
     if (keyInfo[1] != null) {
       defaultValue = keyInfo[1];
     }
+    if (leader == null) {
+      // converters are started in layout order, so the next ones are not started yet
+      LogbackConverter follower = null;
+      for (Converter<ILoggingEvent> c = getNext(); c != null; c = c.getNext()) {
+        if (c instanceof LogbackConverter) {
+          follower = (LogbackConverter) c;
+          follower.leader = this;
+        }
+      }
+      if (follower != null) {
+        follower.last = true;
+        resolutions = ThreadLocal.withInitial(Resolution::new);
+      }
+    }
     super.start();
   }
 
   @Override
   public String convert(ILoggingEvent event) {
-    ContextInternal context = ContextInternal.current();
-    if (context != null && key != null) {
-      return ContextualData.getOrDefault(key, defaultValue);
+    ContextualDataView view = view(event);
+    if (view != null && key != null) {
+      return String.valueOf(view.getOrDefault(key, defaultValue));
     }
     return defaultValue;
   }
 
+  private ContextualDataView view(ILoggingEvent event) {
+    if (leader != null) {
+      ThreadLocal<Resolution> leaderResolutions = leader.resolutions;
+      if (leaderResolutions != null) {
+        Resolution r = leaderResolutions.get();
+        if (r.event == event) {
+          ContextualDataView view = r.view;
+          if (last) {
+            r.clear();
+          }
+          return view;
+        }
+      }
+      // the leader has been stopped
+      return ContextualDataImpl.view();
+    }
+    ContextualDataView view = ContextualDataImpl.view();
+    if (resolutions != null) {
+      Resolution r = resolutions.get();
+      r.event = event;
+      r.view = view;
+    }
+    return view;
+  }
+
   @Override
   public void stop() {
+    if (resolutions != null) {
+      resolutions.remove();
+    }
     reset();
     super.stop();
   }
+
+  /**
+   * The view resolved by the leader for the last event formatted by a thread.
+   */
+  private static final class Resolution {
+
+    ILoggingEvent event;
+    ContextualDataView view;
+
+    void clear() {
+      event = null;
+      view = null;
+    }
+  }
 }
@@ -21,5 +21,5 @@ module io.reactiverse.contextual.logging.logback {
   requires ch.qos.logback.classic;
   requires ch.qos.logback.core;
 
-  exports io.reactiverse.contextual.logging.logback to ch.qos.logback.core;
+  exports io.reactiverse.contextual.logging.logback to ch.qos.logback.core, io.reactiverse.contextual.logging.logback.tests;
 }
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.reactiverse.contextual.logging.logback.tests;
+
+import ch.qos.logback.classic.spi.LoggingEvent;
+import io.reactiverse.contextual.logging.ContextualData;
+import io.reactiverse.contextual.logging.logback.LogbackConverter;
+import io.reactiverse.contextual.logging.tests.AllocationMeter;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.test.core.VertxTestBase;
+import org.junit.Test;
+
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+
+/**
+ * Allocation budgets of the Logback converter hot path.
+ */
+public class LogbackAllocationIT extends VertxTestBase {
+
+  /**
+   * The converters of a layout share a single resolution of the contextual data per event, in a holder reused by the thread.
+   */
+  private static final long CONVERTERS_BUDGET = 0;
+
+  @Test
+  public void testConverters() {
+    ContextInternal context = ((ContextInternal) vertx.getOrCreateContext()).duplicate();
+    context.dispatch(() -> {
+      ContextualData.put("requestId", "foo");
+      ContextualData.put("tenant", "bar");
+    });
+    LogbackConverter requestId = converter("requestId");
+    LogbackConverter tenant = converter("tenant");
+    LogbackConverter missing = converter("missing:-none");
+    requestId.setNext(tenant);
+    tenant.setNext(missing);
+    requestId.start();
+    tenant.start();
+    missing.start();
+    LoggingEvent event = new LoggingEvent();
+    StringBuilder sb = new StringBuilder(256);
+    long allocated = AllocationMeter.bytesPerOperation(context, () -> {
+      sb.setLength(0);
+      requestId.write(sb, event);
+      tenant.write(sb, event);
+      missing.write(sb, event);
+    });
+    assertEquals("foobarnone", sb.toString());
+    assertTrue("Converters allocated " + allocated + " bytes per event", allocated <= CONVERTERS_BUDGET);
+  }
+
+  @Test
+  public void testConvertersDoNotRetainEvent() throws Exception {
+    ContextInternal context = ((ContextInternal) vertx.getOrCreateContext()).duplicate();
+    context.dispatch(() -> ContextualData.put("requestId", "foo"));
+    LogbackConverter requestId = converter("requestId");
+    LogbackConverter tenant = converter("tenant");
+    requestId.setNext(tenant);
+    requestId.start();
+    tenant.start();
+    WeakReference<LoggingEvent> formatted = format(context, requestId, tenant);
+    for (int i = 0; i < 10 && formatted.get() != null; i++) {
+      System.gc();
+      Thread.sleep(10);
+    }
+    assertNull(formatted.get());
+  }
+
+  private WeakReference<LoggingEvent> format(ContextInternal context, LogbackConverter... converters) {
+    LoggingEvent event = new LoggingEvent();
+    StringBuilder sb = new StringBuilder();
+    context.dispatch(() -> {
+      for (LogbackConverter converter : converters) {
+        converter.write(sb, event);
+      }
+    });
+    assertEquals("foo", sb.toString());
+    return new WeakReference<>(event);
+  }
+
+  private static LogbackConverter converter(String option) {
+    LogbackConverter converter = new LogbackConverter();
+    converter.setOptionList(Collections.singletonList(option));
+    return converter;
+  }
+}
@@ -17,4 +17,10 @@
 open module io.reactiverse.contextual.logging.logback.tests {
   requires io.reactiverse.contextual.logging.logback;
   requires io.reactiverse.contextual.logging.tests;
+  requires io.reactiverse.contextual.logging;
+  requires io.vertx.core;
+  requires io.vertx.core.tests;
+  requires ch.qos.logback.classic;
+  requires ch.qos.logback.core;
+  requires junit;
 }